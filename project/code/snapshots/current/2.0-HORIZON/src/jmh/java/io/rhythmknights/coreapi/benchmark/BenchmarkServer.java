@@ -0,0 +1,104 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.scheduler.SimulatedModalScheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.craftbukkit.v1_21_R4.CraftServer;
+import org.bukkit.craftbukkit.v1_21_R4.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Sets up the stand-in server the benchmarks run against, once per benchmark JVM
+ * Events are not dispatched, benchmarks call the listeners themselves
+ */
+public final class BenchmarkServer {
+
+    /**
+     * Fork argument that reports 1.20.4, where item names and lore are JSON strings
+     * From 1.20.5 on they are NMS components, which can't be created without the real server
+     */
+    public static final String JSON_ITEM_TEXT = "-Dcoreapi.benchmark.version=1.20.4-R0.1-SNAPSHOT";
+
+    private static SimulatedModalScheduler scheduler = null;
+
+    private BenchmarkServer() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Installs the stand-in server and initializes CoreAPI with a simulated scheduler, if not done yet
+     *
+     * @return The scheduler, advanced by hand to run scheduled work
+     */
+    @NotNull
+    public static synchronized SimulatedModalScheduler install() {
+        if (scheduler != null) return scheduler;
+
+        Bukkit.setServer(StandIns.create(CraftServer.class, StandIns.create(BenchmarkPluginManager.class)));
+        scheduler = new SimulatedModalScheduler();
+        CoreAPI.init(StandIns.create(BenchmarkPlugin.class), scheduler);
+        return scheduler;
+    }
+
+    /**
+     * Creates an online player without an open inventory
+     *
+     * @param name The player name
+     * @return The new {@link Player}
+     */
+    @NotNull
+    public static Player player(@NotNull final String name) {
+        return StandIns.create(CraftPlayer.class, UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8)), name);
+    }
+
+    abstract static class BenchmarkPlugin implements Plugin {
+
+        private final Logger logger = Logger.getLogger("CoreAPIBenchmark");
+
+        protected BenchmarkPlugin() {}
+
+        @Override
+        public String getName() {
+            return "CoreAPIBenchmark";
+        }
+
+        @Override
+        public Logger getLogger() {
+            return logger;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    abstract static class BenchmarkPluginManager implements PluginManager {
+
+        protected BenchmarkPluginManager() {}
+
+        @Override
+        public void registerEvents(@NotNull final Listener listener, @NotNull final Plugin plugin) {}
+
+        @Override
+        public void callEvent(@NotNull final Event event) {}
+    }
+}
@@ -0,0 +1,231 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.modal.InteractionModifierListener;
+import io.rhythmknights.coreapi.component.modal.Modal;
+import io.rhythmknights.coreapi.component.modal.ModalItem;
+import io.rhythmknights.coreapi.component.modal.ModalListener;
+import io.rhythmknights.coreapi.component.modal.PaginatedModal;
+import io.rhythmknights.coreapi.component.module.ModalAction;
+import io.rhythmknights.coreapi.component.module.ScrollType;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single click or drag on a 6 row modal, from the listener entry to the return
+ * The modifier benchmarks only run the {@link InteractionModifierListener}, the dispatch one runs both listeners
+ * in the order they are registered, like the server calls them
+ * The modals disable placing, taking, swapping and dropping but not other actions, so the modifier checks run in full
+ * Page items fill the first 5 rows, the bottom row holds static items with slot 49 left empty
+ * Run with {@code gradle jmh -Pjmh.include=ClickDispatch}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClickDispatchBenchmark {
+
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = 45;
+    private static final int PAGE_ITEMS = 100;
+    private static final int ITEM_SLOT = 22;
+    private static final int EMPTY_SLOT = 49;
+    // First raw slot of the player's hotbar below a 6 row chest
+    private static final int PLAYER_SLOT = ROWS * 9 + 27;
+
+    /**
+     * The type of modal being clicked
+     */
+    public enum Kind {
+        PLAIN, PAGINATED, SCROLLING
+    }
+
+    /**
+     * Which actions are set on the modal, each one adds to the previous
+     */
+    public enum Actions {
+        // No action at all, only the lookups run
+        NONE,
+        // Every item has an action
+        ITEM,
+        // Plus the default, top, player inventory and drag actions
+        DEFAULTS,
+        // Plus a slot action on every slot and the outside action
+        ALL
+    }
+
+    @Param
+    public Kind kind;
+
+    @Param
+    public Actions actions;
+
+    private final ModalListener listener = new ModalListener();
+    private final InteractionModifierListener modifierListener = new InteractionModifierListener();
+
+    private int handled;
+
+    private InventoryClickEvent itemClick;
+    private InventoryClickEvent emptySlotClick;
+    private InventoryClickEvent playerInventoryClick;
+    private InventoryClickEvent outsideClick;
+    private InventoryDragEvent drag;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        final BaseModal modal = createModal();
+        final ModalAction<InventoryClickEvent> itemAction = actions == Actions.NONE ? null : event -> handled++;
+
+        for (int slot = (ROWS - 1) * 9; slot < ROWS * 9; slot++) {
+            if (slot != EMPTY_SLOT) modal.setItem(slot, new ModalItem(new ItemStack(Material.GRAY_STAINED_GLASS_PANE), itemAction));
+        }
+
+        if (modal instanceof PaginatedModal) {
+            for (int i = 0; i < PAGE_ITEMS; i++) {
+                ((PaginatedModal) modal).addItem(new ModalItem(new ItemStack(Material.DIAMOND), itemAction));
+            }
+        } else {
+            for (int slot = 0; slot < PAGE_SIZE; slot++) {
+                modal.setItem(slot, new ModalItem(new ItemStack(Material.DIAMOND), itemAction));
+            }
+        }
+
+        if (actions.compareTo(Actions.DEFAULTS) >= 0) {
+            modal.setDefaultClickAction(event -> handled++);
+            modal.setDefaultTopClickAction(event -> handled++);
+            modal.setPlayerInventoryAction(event -> handled++);
+            modal.setDragAction(event -> handled++);
+        }
+
+        if (actions == Actions.ALL) {
+            for (int slot = 0; slot < ROWS * 9; slot++) {
+                modal.addSlotAction(slot, event -> handled++);
+            }
+            modal.setOutsideClickAction(event -> handled++);
+        }
+
+        final Player player = BenchmarkServer.player("Benchmark");
+        modal.open(player);
+        final InventoryView view = player.getOpenInventory();
+
+        itemClick = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, ITEM_SLOT, ClickType.LEFT, InventoryAction.PICKUP_ALL);
+        emptySlotClick = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, EMPTY_SLOT, ClickType.LEFT, InventoryAction.NOTHING);
+        playerInventoryClick = new InventoryClickEvent(view, InventoryType.SlotType.QUICKBAR, PLAYER_SLOT, ClickType.LEFT, InventoryAction.NOTHING);
+        outsideClick = new InventoryClickEvent(view, InventoryType.SlotType.OUTSIDE, InventoryView.OUTSIDE, ClickType.LEFT, InventoryAction.NOTHING);
+        drag = new InventoryDragEvent(view, new ItemStack(Material.STONE), new ItemStack(Material.STONE, 2), false, Map.of(
+            EMPTY_SLOT, new ItemStack(Material.STONE),
+            PLAYER_SLOT, new ItemStack(Material.STONE)
+        ));
+    }
+
+    @Benchmark
+    public boolean itemClick() {
+        return click(itemClick);
+    }
+
+    @Benchmark
+    public boolean emptySlotClick() {
+        return click(emptySlotClick);
+    }
+
+    @Benchmark
+    public boolean playerInventoryClick() {
+        return click(playerInventoryClick);
+    }
+
+    @Benchmark
+    public boolean outsideClick() {
+        return click(outsideClick);
+    }
+
+    @Benchmark
+    public boolean drag() {
+        drag.setCancelled(false);
+        listener.onModalDrag(drag);
+        return drag.isCancelled();
+    }
+
+    @Benchmark
+    public boolean modifierItemClick() {
+        itemClick.setCancelled(false);
+        modifierListener.onModalClick(itemClick);
+        return itemClick.isCancelled();
+    }
+
+    @Benchmark
+    public boolean modifierDrag() {
+        drag.setCancelled(false);
+        modifierListener.onModalDrag(drag);
+        return drag.isCancelled();
+    }
+
+    @Benchmark
+    public boolean dispatchItemClick() {
+        itemClick.setCancelled(false);
+        listener.onModalClick(itemClick);
+        modifierListener.onModalClick(itemClick);
+        return itemClick.isCancelled();
+    }
+
+    private boolean click(@NotNull final InventoryClickEvent event) {
+        event.setCancelled(false);
+        listener.onModalClick(event);
+        return event.isCancelled();
+    }
+
+    @NotNull
+    private BaseModal createModal() {
+        final Component title = Component.text("Benchmark");
+
+        switch (kind) {
+            case PAGINATED:
+                return Modal.paginated().title(title).rows(ROWS).pageSize(PAGE_SIZE)
+                    .disableItemPlace().disableItemTake().disableItemSwap().disableItemDrop()
+                    .create();
+            case SCROLLING:
+                return Modal.scrolling(ScrollType.VERTICAL).title(title).rows(ROWS).pageSize(PAGE_SIZE)
+                    .disableItemPlace().disableItemTake().disableItemSwap().disableItemDrop()
+                    .create();
+            default:
+                return Modal.modal().title(title).rows(ROWS)
+                    .disableItemPlace().disableItemTake().disableItemSwap().disableItemDrop()
+                    .create();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.modal.ModalItem;
+import io.rhythmknights.coreapi.component.utility.SkullCache;
+import io.rhythmknights.coreapi.modal.builder.item.ItemBuilder;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building items and wrapping them in {@link ModalItem}s, on the in-memory item meta stand-ins
+ * Runs as 1.20.4 so names and lore take the JSON string path, see {@link BenchmarkServer#JSON_ITEM_TEXT}
+ * Components are parsed once in the setup, like menus that keep their parsed text around
+ * Run with {@code gradle jmh -Pjmh.include=ItemBuild}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkServer.JSON_ITEM_TEXT)
+public class ItemBuildBenchmark {
+
+    // Base64 texture of a plain player head, as it is usually copied from a heads website
+    private static final String TEXTURE = "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUv"
+        + "ZGM1YTcxNDJiN2ZhZjVjMmRiMTg1MWI5YjcyNjFiODZlYjEwYmRjNjljNWYzOTI5NTRiZmY1NWI5ZWM3MmI0NyJ9fX0=";
+
+    private Component name;
+    private List<Component> lore;
+    private ItemStack item;
+    private ModalItem modalItem;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        name = Component.text("Sword of the Knight", NamedTextColor.GOLD).decoration(TextDecoration.ITALIC, false);
+        lore = Arrays.asList(
+            Component.text("A blade forged for the first knights.", NamedTextColor.GRAY),
+            Component.empty(),
+            Component.text("Damage: ", NamedTextColor.GRAY).append(Component.text("12", NamedTextColor.RED)),
+            Component.text("Click to equip", NamedTextColor.YELLOW)
+        );
+
+        item = buildItem();
+        modalItem = new ModalItem(item);
+    }
+
+    /**
+     * A bare item without meta changes, the floor of every build
+     */
+    @Benchmark
+    public ItemStack buildPlain() {
+        return ItemBuilder.from(Material.PAPER).build();
+    }
+
+    /**
+     * A typical menu item with a name, four lore lines, two enchants and a flag
+     */
+    @Benchmark
+    public ItemStack build() {
+        return buildItem();
+    }
+
+    /**
+     * A new {@link ModalItem}, which copies and tags the item with its id
+     */
+    @Benchmark
+    public ModalItem modalItem() {
+        return new ModalItem(item);
+    }
+
+    /**
+     * Replacing the item of an existing {@link ModalItem}, like animated and updated items do
+     */
+    @Benchmark
+    public ItemStack setItemStack() {
+        modalItem.setItemStack(item);
+        return modalItem.getItemStack();
+    }
+
+    /**
+     * A textured skull, with the textured profile taken from the {@link SkullCache} or built every time
+     */
+    @Benchmark
+    public ItemStack skullTexture(final SkullState state) {
+        return ItemBuilder.skull().texture(TEXTURE).build();
+    }
+
+    private ItemStack buildItem() {
+        return ItemBuilder.from(Material.DIAMOND_SWORD)
+            .name(name)
+            .lore(lore)
+            .enchant(Enchantment.SHARPNESS, 5)
+            .enchant(Enchantment.UNBREAKING, 3)
+            .flags(ItemFlag.HIDE_ENCHANTS)
+            .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class SkullState {
+
+        @Param({"true", "false"})
+        public boolean cached;
+
+        @Setup
+        public void setup() {
+            // A size of 0 keeps nothing, so every texture is decoded and its profile built again
+            SkullCache.configure(cached ? 1024 : 0, Duration.ofMinutes(30));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.modal.Modal;
+import io.rhythmknights.coreapi.component.modal.ModalItem;
+import io.rhythmknights.coreapi.component.module.PaginationRegion;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of the layout helpers, the {@link PaginationRegion} factories and the modal filler, by rows
+ * {@code fill} only fills empty slots, so it runs on a new modal each time, compare it with {@code create}
+ * {@code fillBorder} overwrites the border and runs on the same modal, it does nothing below 3 rows
+ * Run with {@code gradle jmh -Pjmh.include=Layout}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6"})
+    public int rows;
+
+    private int[] rowNumbers;
+    private ModalItem filler;
+    private List<ModalItem> fillers;
+    private Modal modal;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        rowNumbers = IntStream.rangeClosed(1, rows).toArray();
+        filler = new ModalItem(new ItemStack(Material.GRAY_STAINED_GLASS_PANE));
+        fillers = List.of(filler, new ModalItem(new ItemStack(Material.BLACK_STAINED_GLASS_PANE)));
+        modal = create();
+    }
+
+    @Benchmark
+    public PaginationRegion regionRectangle() {
+        return PaginationRegion.rectangle(1, 2, rows, 8);
+    }
+
+    @Benchmark
+    public PaginationRegion regionRows() {
+        return PaginationRegion.rows(rowNumbers);
+    }
+
+    @Benchmark
+    public PaginationRegion regionColumns() {
+        return PaginationRegion.columns(rows, 2, 4, 6, 8);
+    }
+
+    @Benchmark
+    public PaginationRegion regionAll() {
+        return PaginationRegion.all(rows);
+    }
+
+    /**
+     * An empty modal, the baseline of {@link #fill()} and {@link #fillAlternating()}
+     */
+    @Benchmark
+    public Modal create() {
+        return Modal.modal().title(Component.text("Benchmark")).rows(rows).create();
+    }
+
+    @Benchmark
+    public Modal fill() {
+        final Modal created = create();
+        created.getFiller().fill(filler);
+        return created;
+    }
+
+    @Benchmark
+    public Modal fillAlternating() {
+        final Modal created = create();
+        created.getFiller().fill(fillers);
+        return created;
+    }
+
+    @Benchmark
+    public Modal fillBorder() {
+        modal.getFiller().fillBorder(filler);
+        return modal;
+    }
+}
@@ -0,0 +1,108 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.module.nbt.LegacyNBT;
+import io.rhythmknights.coreapi.component.module.nbt.NBTWrapper;
+import io.rhythmknights.coreapi.component.module.nbt.PDC;
+import io.rhythmknights.coreapi.modal.builder.item.ItemBuilder;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Material;
+import org.bukkit.craftbukkit.v1_21_R4.inventory.CraftItemStack;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading and writing a string tag with each {@link NBTWrapper}, on a named item with lore and an enchant
+ * Plain Bukkit stacks copy their meta on every access, CraftBukkit stacks are backed by the NMS tag directly
+ * Runs as 1.20.4 so the item can be built with a name and lore, see {@link BenchmarkServer#JSON_ITEM_TEXT}
+ * Run with {@code gradle jmh -Pjmh.include=NbtBackend}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkServer.JSON_ITEM_TEXT)
+public class NbtBackendBenchmark {
+
+    private static final String KEY = "modal-item";
+    private static final String MISSING_KEY = "missing";
+
+    /**
+     * The tag backend
+     */
+    public enum Backend {
+        PDC, LEGACY_NBT
+    }
+
+    /**
+     * The kind of stack the tag is read from and written to
+     */
+    public enum Item {
+        // A plain ItemStack, like items created by plugins
+        BUKKIT,
+        // A CraftItemStack, like items taken from an inventory
+        CRAFT
+    }
+
+    @Param
+    public Backend backend;
+
+    @Param
+    public Item item;
+
+    private NBTWrapper nbt;
+    private ItemStack itemStack;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        nbt = backend == Backend.PDC ? new PDC() : new LegacyNBT();
+
+        final ItemStack built = ItemBuilder.from(Material.DIAMOND_SWORD)
+            .name(Component.text("Sword of the Knight", NamedTextColor.GOLD))
+            .lore(Component.text("A blade forged for the first knights.", NamedTextColor.GRAY), Component.text("Click to equip", NamedTextColor.YELLOW))
+            .enchant(Enchantment.SHARPNESS, 5)
+            .build();
+
+        itemStack = nbt.setString(item == Item.CRAFT ? CraftItemStack.asCraftCopy(built) : built, KEY, "3f2a9c");
+    }
+
+    @Benchmark
+    public ItemStack setString() {
+        return nbt.setString(itemStack, KEY, "3f2a9c");
+    }
+
+    @Benchmark
+    public String getString() {
+        return nbt.getString(itemStack, KEY);
+    }
+
+    @Benchmark
+    public String getStringMissing() {
+        return nbt.getString(itemStack, MISSING_KEY);
+    }
+}
@@ -0,0 +1,192 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.modal.Modal;
+import io.rhythmknights.coreapi.component.modal.ModalItem;
+import io.rhythmknights.coreapi.component.modal.PaginatedModal;
+import io.rhythmknights.coreapi.component.module.PaginationRegion;
+import io.rhythmknights.coreapi.component.module.ScrollType;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of opening and turning the pages of paginated and scrolling modals, by rows, page items and region shape
+ * Every row but the last holds page items, the last row holds the navigation items in its first and last slot
+ * The page items cycle through a small pool of {@link ModalItem}s, so a million of them fit in memory
+ * The default sweep is large, narrow it with {@code -p}, for example {@code -p rows=1,2,3,4,5,6 -p region=NONE}
+ * Run with {@code gradle jmh -Pjmh.include=Pagination}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private static final int ITEM_POOL = 64;
+
+    /**
+     * The type of modal and its scroll direction
+     */
+    public enum Kind {
+        PAGINATED, SCROLLING_VERTICAL, SCROLLING_HORIZONTAL
+    }
+
+    /**
+     * The shape of the pagination region
+     */
+    public enum Region {
+        // No region, pages fill every free slot
+        NONE,
+        // Every row but the navigation row
+        ROWS,
+        // Every other column, from the second to the eighth
+        COLUMNS,
+        // The second to eighth column of every row but the navigation row
+        RECTANGLE
+    }
+
+    @Param
+    public Kind kind;
+
+    @Param({"1", "3", "6"})
+    public int rows;
+
+    @Param({"10", "10000", "1000000"})
+    public int items;
+
+    @Param
+    public Region region;
+
+    private Player player;
+    private ModalItem navigation;
+    private ModalItem[] pageItems;
+    private PaginatedModal modal;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        player = BenchmarkServer.player("Benchmark");
+        navigation = new ModalItem(new ItemStack(Material.ARROW));
+
+        final ModalItem[] pool = new ModalItem[ITEM_POOL];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = new ModalItem(new ItemStack(Material.PAPER, i + 1));
+        }
+
+        pageItems = new ModalItem[items];
+        for (int i = 0; i < items; i++) {
+            pageItems[i] = pool[i % pool.length];
+        }
+
+        modal = createModal();
+        modal.open(player);
+    }
+
+    /**
+     * Reopening the modal on its first page, which redraws the static items and the page
+     */
+    @Benchmark
+    public PaginatedModal open() {
+        modal.open(player, 1);
+        return modal;
+    }
+
+    /**
+     * One {@link PaginatedModal#next()} and one {@link PaginatedModal#previous()}, two page redraws when there is a next page
+     */
+    @Benchmark
+    public boolean nextAndPrevious() {
+        return modal.next() & modal.previous();
+    }
+
+    /**
+     * The page count with the page size worked out again, like on the first open
+     */
+    @Benchmark
+    public int pagesNum() {
+        if (region == Region.NONE) modal.setPageSize(0);
+        return modal.getPagesNum();
+    }
+
+    /**
+     * Building, filling and opening a new modal, like menus that are created on every open
+     * Adding the page items is linear in their count, so this includes copying the references
+     */
+    @Benchmark
+    public PaginatedModal createAndOpen() {
+        final PaginatedModal created = createModal();
+        created.open(player);
+        return created;
+    }
+
+    @NotNull
+    private PaginatedModal createModal() {
+        final PaginationRegion paginationRegion = createRegion();
+        final Component title = Component.text("Benchmark");
+
+        final PaginatedModal created;
+        if (kind == Kind.PAGINATED) {
+            created = paginationRegion == null
+                ? Modal.paginated().title(title).rows(rows).create()
+                : Modal.paginated().title(title).rows(rows).paginationRegion(paginationRegion).create();
+        } else {
+            final ScrollType scrollType = kind == Kind.SCROLLING_VERTICAL ? ScrollType.VERTICAL : ScrollType.HORIZONTAL;
+            created = paginationRegion == null
+                ? Modal.scrolling(scrollType).title(title).rows(rows).create()
+                : Modal.scrolling(scrollType).title(title).rows(rows).paginationRegion(paginationRegion).create();
+        }
+
+        if (rows > 1) {
+            created.setItem(rows, 1, navigation);
+            created.setItem(rows, 9, navigation);
+        }
+
+        created.addItem(pageItems);
+        return created;
+    }
+
+    @Nullable
+    private PaginationRegion createRegion() {
+        final int pageRows = Math.max(1, rows - 1);
+
+        switch (region) {
+            case ROWS:
+                return PaginationRegion.rows(IntStream.rangeClosed(1, pageRows).toArray());
+            case COLUMNS:
+                return PaginationRegion.columns(rows, 2, 4, 6, 8);
+            case RECTANGLE:
+                return PaginationRegion.rectangle(1, 2, pageRows, 8);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates instances of the abstract stand-ins the benchmarks use in place of the server implementation
+ * Stand-ins only implement what the benchmarked code reaches, every other abstract method is generated and throws
+ * The generated class is defined next to the stand-in, so it keeps the stand-in's package
+ */
+public final class StandIns {
+
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(@NotNull final Class<?> type) {
+            return implement(type);
+        }
+    };
+
+    private StandIns() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Creates an instance of the stand-in with its only constructor
+     *
+     * @param type      The abstract stand-in class
+     * @param arguments The constructor arguments
+     * @param <T>       The stand-in type
+     * @return The new instance
+     */
+    @NotNull
+    public static <T> T create(@NotNull final Class<T> type, @NotNull final Object... arguments) {
+        try {
+            return type.cast(CONSTRUCTORS.get(type).newInstance(arguments));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalStateException("Could not create stand-in " + type.getName(), exception);
+        }
+    }
+
+    @NotNull
+    private static Constructor<?> implement(@NotNull final Class<?> type) {
+        final Constructor<?>[] constructors = type.getDeclaredConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException("Stand-in " + type.getName() + " must have exactly one constructor");
+        }
+
+        try {
+            final Class<?> implementation = new ByteBuddy()
+                .subclass(type)
+                .name(type.getName() + "$StandIn")
+                .method(ElementMatchers.isAbstract())
+                .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class, "Not supported by the benchmark server"))
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+                .getLoaded();
+
+            final Constructor<?> constructor = implementation.getDeclaredConstructor(constructors[0].getParameterTypes());
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (IllegalAccessException | NoSuchMethodException exception) {
+            throw new IllegalStateException("Could not implement stand-in " + type.getName(), exception);
+        }
+    }
+}
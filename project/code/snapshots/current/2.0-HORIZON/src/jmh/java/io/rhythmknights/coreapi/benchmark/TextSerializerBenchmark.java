@@ -0,0 +1,82 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.benchmark;
+
+import io.rhythmknights.coreapi.component.utility.Legacy;
+
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a name or lore line into a {@link Component} with {@link Legacy.TextSerializer}
+ * The uncached runs use a serializer with its caches turned off, so every call classifies and parses the text
+ * Run with {@code gradle jmh -Pjmh.include=TextSerializer}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSerializerBenchmark {
+
+    /**
+     * The format of the input text
+     */
+    public enum Format {
+        PLAIN("Sword of the Knight"),
+        LEGACY("&6&lSword of the Knight &7(&#55FF55Sharpness V&7)"),
+        MINI_MESSAGE("<gold><bold>Sword of the Knight</bold></gold> <gray>(<#55FF55>Sharpness V</#55FF55>)</gray>");
+
+        private final String text;
+
+        Format(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Param
+    public Format format;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private Legacy.TextSerializer serializer;
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = format.text;
+
+        if (cached) {
+            serializer = Legacy.SERIALIZER;
+            return;
+        }
+
+        serializer = new Legacy.TextSerializer();
+        serializer.setCacheSize(0);
+    }
+
+    @Benchmark
+    public Component deserialize() {
+        return serializer.deserialize(text);
+    }
+}
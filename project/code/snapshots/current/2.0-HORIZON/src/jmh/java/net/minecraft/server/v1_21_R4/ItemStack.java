@@ -0,0 +1,69 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package net.minecraft.server.v1_21_R4;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Benchmark stand-in for the NMS item stack, the item type and amount plus an optional tag
+ */
+public final class ItemStack {
+
+    private Material item;
+    private int count;
+    private NBTTagCompound tag;
+
+    public ItemStack(@NotNull final Material item, final int count) {
+        this.item = item;
+        this.count = count;
+    }
+
+    @NotNull
+    public Material getItem() {
+        return item;
+    }
+
+    public void setItem(@NotNull final Material item) {
+        this.item = item;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    public boolean isEmpty() {
+        return item == Material.AIR || count <= 0;
+    }
+
+    public boolean hasTag() {
+        return tag != null;
+    }
+
+    @Nullable
+    public NBTTagCompound getTag() {
+        return tag;
+    }
+
+    public void setTag(@Nullable final NBTTagCompound tag) {
+        this.tag = tag;
+    }
+
+    @NotNull
+    public ItemStack copy() {
+        final ItemStack copy = new ItemStack(item, count);
+        if (tag != null) copy.tag = tag.copy();
+        return copy;
+    }
+}
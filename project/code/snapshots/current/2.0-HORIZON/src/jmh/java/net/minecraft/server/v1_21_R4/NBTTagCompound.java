@@ -0,0 +1,140 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package net.minecraft.server.v1_21_R4;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark stand-in for the NMS compound tag {@link io.rhythmknights.coreapi.component.module.nbt.LegacyNBT} reflects on
+ * Values are kept as plain objects, nested compounds and lists are deep copied like on the server
+ */
+public final class NBTTagCompound {
+
+    private final Map<String, Object> tags = new LinkedHashMap<>();
+
+    public NBTTagCompound() {}
+
+    public boolean hasKey(@NotNull final String key) {
+        return tags.containsKey(key);
+    }
+
+    @Nullable
+    public Object get(@NotNull final String key) {
+        return tags.get(key);
+    }
+
+    public void set(@NotNull final String key, @NotNull final Object value) {
+        tags.put(key, value);
+    }
+
+    public void remove(@NotNull final String key) {
+        tags.remove(key);
+    }
+
+    @NotNull
+    public String getString(@NotNull final String key) {
+        final Object value = tags.get(key);
+        return value instanceof String ? (String) value : "";
+    }
+
+    public void setString(@NotNull final String key, @NotNull final String value) {
+        tags.put(key, value);
+    }
+
+    public void setBoolean(@NotNull final String key, final boolean value) {
+        tags.put(key, value ? (byte) 1 : (byte) 0);
+    }
+
+    public boolean getBoolean(@NotNull final String key) {
+        final Object value = tags.get(key);
+        return value instanceof Byte && (Byte) value != 0;
+    }
+
+    public void setInt(@NotNull final String key, final int value) {
+        tags.put(key, value);
+    }
+
+    public int getInt(@NotNull final String key) {
+        final Object value = tags.get(key);
+        return value instanceof Integer ? (Integer) value : 0;
+    }
+
+    public void setLong(@NotNull final String key, final long value) {
+        tags.put(key, value);
+    }
+
+    public long getLong(@NotNull final String key) {
+        final Object value = tags.get(key);
+        return value instanceof Long ? (Long) value : 0;
+    }
+
+    /**
+     * Gets a nested compound, an empty one that isn't stored if there is none
+     */
+    @NotNull
+    public NBTTagCompound getCompound(@NotNull final String key) {
+        final Object value = tags.get(key);
+        return value instanceof NBTTagCompound ? (NBTTagCompound) value : new NBTTagCompound();
+    }
+
+    @NotNull
+    public Set<String> getKeys() {
+        return tags.keySet();
+    }
+
+    @NotNull
+    public Map<String, Object> asMap() {
+        return tags;
+    }
+
+    public boolean isEmpty() {
+        return tags.isEmpty();
+    }
+
+    @NotNull
+    public NBTTagCompound copy() {
+        final NBTTagCompound copy = new NBTTagCompound();
+        tags.forEach((key, value) -> copy.tags.put(key, copyValue(value)));
+        return copy;
+    }
+
+    @NotNull
+    private static Object copyValue(@NotNull final Object value) {
+        if (value instanceof NBTTagCompound) return ((NBTTagCompound) value).copy();
+        if (!(value instanceof List)) return value;
+
+        final List<?> list = (List<?>) value;
+        final List<Object> copy = new ArrayList<>(list.size());
+        for (final Object element : list) copy.add(copyValue(element));
+        return copy;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        return this == object || object instanceof NBTTagCompound && tags.equals(((NBTTagCompound) object).tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return tags.toString();
+    }
+}
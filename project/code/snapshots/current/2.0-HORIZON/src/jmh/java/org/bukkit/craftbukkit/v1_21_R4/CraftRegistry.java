@@ -0,0 +1,46 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4;
+
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Benchmark stand-in for a registry, entries are created on first lookup and then reused
+ *
+ * @param <B> The Bukkit type of the entries
+ */
+public abstract class CraftRegistry<B extends Keyed> implements Registry<B> {
+
+    private final Map<NamespacedKey, B> cache = new ConcurrentHashMap<>();
+    private final Function<NamespacedKey, B> factory;
+
+    protected CraftRegistry(@NotNull final Function<NamespacedKey, B> factory) {
+        this.factory = factory;
+    }
+
+    @Nullable
+    @Override
+    public B get(@NotNull final NamespacedKey key) {
+        // Not computeIfAbsent, creating an entry can look up other entries while the Bukkit class initializes
+        final B cached = cache.get(key);
+        if (cached != null) return cached;
+
+        final B created = factory.apply(key);
+        final B previous = cache.putIfAbsent(key, created);
+        return previous != null ? previous : created;
+    }
+}
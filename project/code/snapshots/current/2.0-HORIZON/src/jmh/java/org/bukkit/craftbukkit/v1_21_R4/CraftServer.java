@@ -0,0 +1,128 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4;
+
+import io.rhythmknights.coreapi.benchmark.StandIns;
+
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.craftbukkit.v1_21_R4.enchantments.CraftEnchantment;
+import org.bukkit.craftbukkit.v1_21_R4.inventory.CraftInventory;
+import org.bukkit.craftbukkit.v1_21_R4.inventory.CraftItemFactory;
+import org.bukkit.craftbukkit.v1_21_R4.profile.CraftPlayerProfile;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.profile.PlayerProfile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Benchmark stand-in for the CraftBukkit server
+ * It sits in a versioned CraftBukkit package, so the version lookups resolve the other stand-ins next to it
+ * The reported Bukkit version can be changed with the {@code coreapi.benchmark.version} system property
+ */
+public abstract class CraftServer implements Server {
+
+    private static final String BUKKIT_VERSION = System.getProperty("coreapi.benchmark.version", "1.21.5-R0.1-SNAPSHOT");
+
+    private final Logger logger = Logger.getLogger("Minecraft");
+    private final ItemFactory itemFactory = StandIns.create(CraftItemFactory.class);
+    // Created on first lookup, the registry interface reads Bukkit's registries as soon as it's initialized
+    private Registry<Enchantment> enchantments;
+    private final PluginManager pluginManager;
+
+    protected CraftServer(@NotNull final PluginManager pluginManager) {
+        this.pluginManager = pluginManager;
+    }
+
+    @Override
+    public String getName() {
+        return "CraftBukkit";
+    }
+
+    @Override
+    public String getVersion() {
+        return "benchmark (MC: " + BUKKIT_VERSION.substring(0, BUKKIT_VERSION.indexOf('-')) + ")";
+    }
+
+    @Override
+    public String getBukkitVersion() {
+        return BUKKIT_VERSION;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public boolean isPrimaryThread() {
+        return true;
+    }
+
+    @Override
+    public PluginManager getPluginManager() {
+        return pluginManager;
+    }
+
+    @Override
+    public ItemFactory getItemFactory() {
+        return itemFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public synchronized <T extends Keyed> Registry<T> getRegistry(@NotNull final Class<T> type) {
+        if (type != Enchantment.class) return null;
+
+        if (enchantments == null) {
+            enchantments = StandIns.create(
+                CraftRegistry.class,
+                (Function<NamespacedKey, Enchantment>) key -> StandIns.create(CraftEnchantment.class, key)
+            );
+        }
+        return (Registry<T>) enchantments;
+    }
+
+    @Override
+    public PlayerProfile createPlayerProfile(@Nullable final UUID uniqueId, @Nullable final String name) {
+        return StandIns.create(CraftPlayerProfile.class, uniqueId, name);
+    }
+
+    @Override
+    public Inventory createInventory(@Nullable final InventoryHolder owner, final int size) {
+        return createInventory(owner, size, "Chest");
+    }
+
+    @Override
+    public Inventory createInventory(@Nullable final InventoryHolder owner, final int size, @NotNull final String title) {
+        return StandIns.create(CraftInventory.class, owner, InventoryType.CHEST, size, title);
+    }
+
+    @Override
+    public Inventory createInventory(@Nullable final InventoryHolder owner, @NotNull final InventoryType type, @NotNull final String title) {
+        return StandIns.create(CraftInventory.class, owner, type, type.getDefaultSize(), title);
+    }
+
+    @Override
+    public PluginCommand getPluginCommand(@NotNull final String name) {
+        return null;
+    }
+}
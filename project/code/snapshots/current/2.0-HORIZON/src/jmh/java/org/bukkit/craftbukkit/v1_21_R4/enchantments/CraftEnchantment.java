@@ -0,0 +1,68 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.enchantments;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Benchmark stand-in for an enchantment, only the key and level range are known
+ */
+public abstract class CraftEnchantment extends Enchantment {
+
+    private static final Map<String, Integer> MAX_LEVELS = Map.of(
+        "sharpness", 5,
+        "efficiency", 5,
+        "protection", 4,
+        "unbreaking", 3,
+        "lure", 3,
+        "looting", 3,
+        "fortune", 3
+    );
+
+    private final NamespacedKey key;
+    private final int maxLevel;
+
+    protected CraftEnchantment(@NotNull final NamespacedKey key) {
+        this.key = key;
+        this.maxLevel = MAX_LEVELS.getOrDefault(key.getKey(), 1);
+    }
+
+    @NotNull
+    @Override
+    public NamespacedKey getKey() {
+        return key;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return key.getKey().toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    @Override
+    public int getStartLevel() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "CraftEnchantment[" + key + "]";
+    }
+}
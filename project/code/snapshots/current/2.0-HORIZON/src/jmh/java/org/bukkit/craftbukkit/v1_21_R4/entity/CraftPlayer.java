@@ -0,0 +1,98 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.entity;
+
+import io.rhythmknights.coreapi.benchmark.StandIns;
+
+import org.bukkit.craftbukkit.v1_21_R4.inventory.CraftInventory;
+import org.bukkit.craftbukkit.v1_21_R4.inventory.CraftInventoryView;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Benchmark stand-in for an online player, opening an inventory creates the view the click events are built on
+ */
+public abstract class CraftPlayer implements Player {
+
+    private final UUID uniqueId;
+    private final String name;
+    // Only the main inventory and hotbar, which is what the raw slots of a chest view cover
+    private final CraftInventory inventory;
+    private InventoryView openInventory;
+
+    protected CraftPlayer(@NotNull final UUID uniqueId, @NotNull final String name) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.inventory = StandIns.create(CraftInventory.class, this, InventoryType.PLAYER, 36, "Inventory");
+    }
+
+    @Override
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isOnline() {
+        return true;
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return false;
+    }
+
+    @Override
+    public InventoryView openInventory(@NotNull final Inventory inventory) {
+        closeInventory();
+
+        final CraftInventory top = (CraftInventory) inventory;
+        top.onOpen(this);
+        openInventory = StandIns.create(CraftInventoryView.class, this, top, this.inventory, top.getTitle());
+        return openInventory;
+    }
+
+    @Override
+    public InventoryView getOpenInventory() {
+        return openInventory;
+    }
+
+    @Override
+    public void closeInventory() {
+        if (openInventory == null) return;
+
+        ((CraftInventory) openInventory.getTopInventory()).onClose(this);
+        openInventory = null;
+    }
+
+    @Override
+    public void updateInventory() {}
+
+    @Override
+    public void sendMessage(@NotNull final String message) {}
+
+    @Override
+    public boolean hasPermission(@NotNull final String permission) {
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark stand-in for a container inventory
+ * Like the server it stores a copy of every item set, and hands out the stored item when read
+ */
+public abstract class CraftInventory implements Inventory {
+
+    private final InventoryHolder holder;
+    private final InventoryType type;
+    private final String title;
+    private final ItemStack[] items;
+    private final List<HumanEntity> viewers = new ArrayList<>();
+
+    protected CraftInventory(
+        @Nullable final InventoryHolder holder,
+        @NotNull final InventoryType type,
+        final int size,
+        @NotNull final String title
+    ) {
+        this.holder = holder;
+        this.type = type;
+        this.title = title;
+        this.items = new ItemStack[size];
+    }
+
+    @Override
+    public int getSize() {
+        return items.length;
+    }
+
+    @Override
+    public ItemStack getItem(final int index) {
+        return items[index];
+    }
+
+    @Override
+    public void setItem(final int index, @Nullable final ItemStack item) {
+        items[index] = item == null || item.getType() == Material.AIR ? null : item.clone();
+    }
+
+    @Override
+    public ItemStack[] getContents() {
+        return items.clone();
+    }
+
+    @Override
+    public void setContents(@NotNull final ItemStack[] items) {
+        Preconditions.checkArgument(items.length <= this.items.length, "Invalid inventory size (%s), expected %s or less", items.length, this.items.length);
+        for (int i = 0; i < this.items.length; i++) {
+            setItem(i, i < items.length ? items[i] : null);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, null);
+    }
+
+    @Override
+    public List<HumanEntity> getViewers() {
+        return viewers;
+    }
+
+    @Override
+    public InventoryHolder getHolder() {
+        return holder;
+    }
+
+    @Override
+    public InventoryType getType() {
+        return type;
+    }
+
+    @NotNull
+    public String getTitle() {
+        return title;
+    }
+
+    public void onOpen(@NotNull final HumanEntity viewer) {
+        viewers.add(viewer);
+    }
+
+    public void onClose(@NotNull final HumanEntity viewer) {
+        viewers.remove(viewer);
+    }
+}
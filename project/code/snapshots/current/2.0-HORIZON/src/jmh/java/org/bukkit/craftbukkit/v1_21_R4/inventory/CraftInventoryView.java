@@ -0,0 +1,131 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Benchmark stand-in for the view of an open container, with the raw slot mapping of the server
+ */
+public abstract class CraftInventoryView implements InventoryView {
+
+    private final HumanEntity player;
+    private final Inventory top;
+    private final Inventory bottom;
+    private final String originalTitle;
+    private String title;
+    private ItemStack cursor;
+
+    protected CraftInventoryView(
+        @NotNull final HumanEntity player,
+        @NotNull final Inventory top,
+        @NotNull final Inventory bottom,
+        @NotNull final String title
+    ) {
+        this.player = player;
+        this.top = top;
+        this.bottom = bottom;
+        this.originalTitle = title;
+        this.title = title;
+    }
+
+    @Override
+    public Inventory getTopInventory() {
+        return top;
+    }
+
+    @Override
+    public Inventory getBottomInventory() {
+        return bottom;
+    }
+
+    @Override
+    public HumanEntity getPlayer() {
+        return player;
+    }
+
+    @Override
+    public InventoryType getType() {
+        return top.getType();
+    }
+
+    @Override
+    public void setItem(final int slot, @Nullable final ItemStack item) {
+        final Inventory inventory = getInventory(slot);
+        if (inventory != null) inventory.setItem(convertSlot(slot), item);
+    }
+
+    @Override
+    public ItemStack getItem(final int slot) {
+        final Inventory inventory = getInventory(slot);
+        return inventory == null ? null : inventory.getItem(convertSlot(slot));
+    }
+
+    @Override
+    public void setCursor(@Nullable final ItemStack item) {
+        cursor = item;
+    }
+
+    @Override
+    public ItemStack getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public Inventory getInventory(final int rawSlot) {
+        if (rawSlot == OUTSIDE || rawSlot == -1) return null;
+
+        Preconditions.checkArgument(rawSlot >= 0, "Negative, non outside slot %s", rawSlot);
+        Preconditions.checkArgument(rawSlot < countSlots(), "Slot %s greater than inventory slot count", rawSlot);
+
+        return rawSlot < top.getSize() ? top : bottom;
+    }
+
+    @Override
+    public int convertSlot(final int rawSlot) {
+        final int topSize = top.getSize();
+        if (rawSlot < topSize) return rawSlot;
+
+        // The hotbar comes after the main player inventory in raw slots, but first in the inventory
+        final int slot = rawSlot - topSize;
+        return slot >= 27 ? slot - 27 : slot + 9;
+    }
+
+    @Override
+    public int countSlots() {
+        return top.getSize() + bottom.getSize();
+    }
+
+    @Override
+    public void close() {
+        player.closeInventory();
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public String getOriginalTitle() {
+        return originalTitle;
+    }
+
+    @Override
+    public void setTitle(@NotNull final String title) {
+        this.title = title;
+    }
+}
@@ -0,0 +1,62 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import io.rhythmknights.coreapi.benchmark.StandIns;
+
+import net.minecraft.server.v1_21_R4.NBTTagCompound;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Benchmark stand-in for the item factory, player heads get a {@link CraftMetaSkull} and every other item a plain {@link CraftMetaItem}
+ */
+public abstract class CraftItemFactory implements ItemFactory {
+
+    protected CraftItemFactory() {}
+
+    @Override
+    public ItemMeta getItemMeta(@NotNull final Material material) {
+        if (material == Material.AIR) return null;
+        return material == Material.PLAYER_HEAD ? StandIns.create(CraftMetaSkull.class) : StandIns.create(CraftMetaItem.class);
+    }
+
+    @Override
+    public boolean isApplicable(@Nullable final ItemMeta meta, @Nullable final Material material) {
+        return meta != null && material != null && material != Material.AIR;
+    }
+
+    @Override
+    public boolean equals(@Nullable final ItemMeta meta1, @Nullable final ItemMeta meta2) {
+        if (meta1 == meta2) return true;
+        if (meta1 == null) return ((CraftMetaItem) meta2).isEmpty();
+        if (meta2 == null) return ((CraftMetaItem) meta1).isEmpty();
+        return meta1.equals(meta2);
+    }
+
+    @Override
+    public ItemMeta asMetaFor(@NotNull final ItemMeta meta, @NotNull final Material material) {
+        if ((material == Material.PLAYER_HEAD) == meta instanceof CraftMetaSkull) return meta;
+
+        // Like the server, only the shared item meta survives a change of meta type
+        final CraftMetaItem converted = (CraftMetaItem) getItemMeta(material);
+        final NBTTagCompound tag = new NBTTagCompound();
+        ((CraftMetaItem) meta).applyToItem(tag);
+        converted.load(tag);
+        return converted;
+    }
+
+    @Override
+    public Material updateMaterial(@NotNull final ItemMeta meta, @NotNull final Material material) {
+        return material;
+    }
+}
@@ -0,0 +1,141 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import net.minecraft.server.v1_21_R4.NBTTagCompound;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Benchmark stand-in for the item stack backed by an NMS handle
+ * The meta is rebuilt from the handle's tag on every read and written back to it on every write, like on the server
+ */
+public final class CraftItemStack extends ItemStack {
+
+    private net.minecraft.server.v1_21_R4.ItemStack handle;
+
+    private CraftItemStack(@NotNull final net.minecraft.server.v1_21_R4.ItemStack handle) {
+        this.handle = handle;
+    }
+
+    @NotNull
+    public static net.minecraft.server.v1_21_R4.ItemStack asNMSCopy(@Nullable final ItemStack original) {
+        if (original instanceof CraftItemStack) return ((CraftItemStack) original).handle.copy();
+        if (original == null || original.getType() == Material.AIR) return new net.minecraft.server.v1_21_R4.ItemStack(Material.AIR, 0);
+
+        final net.minecraft.server.v1_21_R4.ItemStack stack = new net.minecraft.server.v1_21_R4.ItemStack(original.getType(), original.getAmount());
+        if (original.hasItemMeta()) setItemMeta(stack, original.getItemMeta());
+        return stack;
+    }
+
+    @NotNull
+    public static ItemStack asBukkitCopy(@NotNull final net.minecraft.server.v1_21_R4.ItemStack original) {
+        if (original.isEmpty()) return new ItemStack(Material.AIR);
+
+        final ItemStack stack = new ItemStack(original.getItem(), original.getCount());
+        if (hasItemMeta(original)) stack.setItemMeta(getItemMeta(original));
+        return stack;
+    }
+
+    @NotNull
+    public static CraftItemStack asCraftMirror(@NotNull final net.minecraft.server.v1_21_R4.ItemStack original) {
+        return new CraftItemStack(original);
+    }
+
+    @NotNull
+    public static CraftItemStack asCraftCopy(@NotNull final ItemStack original) {
+        return new CraftItemStack(asNMSCopy(original));
+    }
+
+    @Nullable
+    public static ItemMeta getItemMeta(@NotNull final net.minecraft.server.v1_21_R4.ItemStack item) {
+        final ItemMeta meta = Bukkit.getItemFactory().getItemMeta(item.getItem());
+        if (meta != null && item.hasTag()) ((CraftMetaItem) meta).load(item.getTag());
+        return meta;
+    }
+
+    public static boolean setItemMeta(@NotNull final net.minecraft.server.v1_21_R4.ItemStack item, @Nullable final ItemMeta meta) {
+        if (meta == null) {
+            item.setTag(null);
+            return true;
+        }
+        if (!Bukkit.getItemFactory().isApplicable(meta, item.getItem())) return false;
+
+        final NBTTagCompound tag = new NBTTagCompound();
+        ((CraftMetaItem) Bukkit.getItemFactory().asMetaFor(meta, item.getItem())).applyToItem(tag);
+        item.setTag(tag.isEmpty() ? null : tag);
+        return true;
+    }
+
+    private static boolean hasItemMeta(@NotNull final net.minecraft.server.v1_21_R4.ItemStack item) {
+        return item.hasTag() && !item.getTag().isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public Material getType() {
+        return handle.getItem();
+    }
+
+    @Override
+    public void setType(@NotNull final Material type) {
+        if (getType() == type) return;
+
+        final ItemMeta meta = getItemMeta();
+        handle.setItem(type);
+        setItemMeta(handle, meta == null ? null : Bukkit.getItemFactory().asMetaFor(meta, type));
+    }
+
+    @Override
+    public int getAmount() {
+        return handle.getCount();
+    }
+
+    @Override
+    public void setAmount(final int amount) {
+        handle.setCount(amount);
+    }
+
+    @Override
+    public boolean hasItemMeta() {
+        return hasItemMeta(handle);
+    }
+
+    @Override
+    public ItemMeta getItemMeta() {
+        return getItemMeta(handle);
+    }
+
+    @Override
+    public boolean setItemMeta(@Nullable final ItemMeta itemMeta) {
+        return setItemMeta(handle, itemMeta);
+    }
+
+    @NotNull
+    @Override
+    public Map<Enchantment, Integer> getEnchantments() {
+        final ItemMeta meta = getItemMeta();
+        return meta == null ? Map.of() : meta.getEnchants();
+    }
+
+    @NotNull
+    @Override
+    public CraftItemStack clone() {
+        final CraftItemStack clone = (CraftItemStack) super.clone();
+        clone.handle = handle.copy();
+        return clone;
+    }
+}
@@ -0,0 +1,343 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import io.rhythmknights.coreapi.benchmark.StandIns;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.minecraft.server.v1_21_R4.NBTTagCompound;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.craftbukkit.v1_21_R4.persistence.CraftPersistentDataContainer;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Benchmark stand-in for the item meta, copied on every read and write of an item like on the server
+ * Name and lore are stored as JSON strings like on 1.20.4, the builder writes them through reflection
+ * Tags the meta doesn't know are kept and written back, so values set through the NMS tag survive a round trip
+ */
+public abstract class CraftMetaItem implements ItemMeta {
+
+    private static final String DISPLAY = "display";
+    private static final String NAME = "Name";
+    private static final String LORE = "Lore";
+    private static final String ENCHANTMENTS = "Enchantments";
+    private static final String HIDE_FLAGS = "HideFlags";
+    private static final String UNBREAKABLE = "Unbreakable";
+    private static final String CUSTOM_MODEL_DATA = "CustomModelData";
+    private static final String BUKKIT_VALUES = "PublicBukkitValues";
+
+    private String displayName;
+    private List<String> lore;
+    private Map<Enchantment, Integer> enchantments;
+    private int hideFlag;
+    private boolean unbreakable;
+    private Integer customModelData;
+    private Map<String, Object> unhandledTags = new LinkedHashMap<>();
+    private CraftPersistentDataContainer persistentDataContainer = StandIns.create(CraftPersistentDataContainer.class);
+
+    protected CraftMetaItem() {}
+
+    /**
+     * Reads the meta back from an item tag, like the tag constructor on the server
+     */
+    void load(@NotNull final NBTTagCompound tag) {
+        for (final String key : tag.getKeys()) {
+            switch (key) {
+                case DISPLAY:
+                    final NBTTagCompound display = tag.getCompound(DISPLAY);
+                    if (display.hasKey(NAME)) displayName = display.getString(NAME);
+                    if (display.hasKey(LORE)) lore = new ArrayList<>(castList(display.get(LORE)));
+                    break;
+                case ENCHANTMENTS:
+                    enchantments = new LinkedHashMap<>();
+                    tag.getCompound(ENCHANTMENTS).asMap().forEach((name, level) ->
+                        enchantments.put(Registry.ENCHANTMENT.getOrThrow(NamespacedKey.fromString(name)), (Integer) level));
+                    break;
+                case HIDE_FLAGS:
+                    hideFlag = tag.getInt(HIDE_FLAGS);
+                    break;
+                case UNBREAKABLE:
+                    unbreakable = tag.getBoolean(UNBREAKABLE);
+                    break;
+                case CUSTOM_MODEL_DATA:
+                    customModelData = tag.getInt(CUSTOM_MODEL_DATA);
+                    break;
+                case BUKKIT_VALUES:
+                    persistentDataContainer.putAll(tag.getCompound(BUKKIT_VALUES).copy().asMap());
+                    break;
+                default:
+                    loadTag(key, tag);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Reads a tag the base meta doesn't know, subclasses handle their own tags before falling back to this
+     */
+    void loadTag(@NotNull final String key, @NotNull final NBTTagCompound tag) {
+        unhandledTags.put(key, tag.copy().get(key));
+    }
+
+    /**
+     * Writes the meta to an item tag
+     */
+    void applyToItem(@NotNull final NBTTagCompound tag) {
+        if (displayName != null || lore != null) {
+            final NBTTagCompound display = new NBTTagCompound();
+            if (displayName != null) display.setString(NAME, displayName);
+            if (lore != null) display.set(LORE, new ArrayList<>(lore));
+            tag.set(DISPLAY, display);
+        }
+
+        if (enchantments != null && !enchantments.isEmpty()) {
+            final NBTTagCompound enchants = new NBTTagCompound();
+            enchantments.forEach((enchantment, level) -> enchants.setInt(enchantment.getKey().toString(), level));
+            tag.set(ENCHANTMENTS, enchants);
+        }
+
+        if (hideFlag != 0) tag.setInt(HIDE_FLAGS, hideFlag);
+        if (unbreakable) tag.setBoolean(UNBREAKABLE, true);
+        if (customModelData != null) tag.setInt(CUSTOM_MODEL_DATA, customModelData);
+
+        if (!persistentDataContainer.isEmpty()) {
+            final NBTTagCompound values = new NBTTagCompound();
+            persistentDataContainer.getRaw().forEach(values::set);
+            tag.set(BUKKIT_VALUES, values);
+        }
+
+        if (!unhandledTags.isEmpty()) {
+            final NBTTagCompound unhandled = new NBTTagCompound();
+            unhandledTags.forEach(unhandled::set);
+            tag.asMap().putAll(unhandled.copy().asMap());
+        }
+    }
+
+    @Override
+    public boolean hasDisplayName() {
+        return displayName != null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return displayName == null ? "" : LegacyComponentSerializer.legacySection().serialize(GsonComponentSerializer.gson().deserialize(displayName));
+    }
+
+    @Override
+    public void setDisplayName(@Nullable final String name) {
+        displayName = name == null ? null : GsonComponentSerializer.gson().serialize(LegacyComponentSerializer.legacySection().deserialize(name));
+    }
+
+    @Override
+    public boolean hasLore() {
+        return lore != null && !lore.isEmpty();
+    }
+
+    @Override
+    public List<String> getLore() {
+        if (lore == null) return null;
+
+        final List<String> legacy = new ArrayList<>(lore.size());
+        for (final String line : lore) {
+            legacy.add(LegacyComponentSerializer.legacySection().serialize(GsonComponentSerializer.gson().deserialize(line)));
+        }
+        return legacy;
+    }
+
+    @Override
+    public void setLore(@Nullable final List<String> lore) {
+        if (lore == null || lore.isEmpty()) {
+            this.lore = null;
+            return;
+        }
+
+        final List<String> json = new ArrayList<>(lore.size());
+        for (final String line : lore) {
+            json.add(GsonComponentSerializer.gson().serialize(LegacyComponentSerializer.legacySection().deserialize(line)));
+        }
+        this.lore = json;
+    }
+
+    @Override
+    public boolean hasCustomModelData() {
+        return customModelData != null;
+    }
+
+    @Override
+    public int getCustomModelData() {
+        Preconditions.checkState(hasCustomModelData(), "We don't have CustomModelData! Check hasCustomModelData first!");
+        return customModelData;
+    }
+
+    @Override
+    public void setCustomModelData(@Nullable final Integer data) {
+        customModelData = data;
+    }
+
+    @Override
+    public boolean hasEnchants() {
+        return enchantments != null && !enchantments.isEmpty();
+    }
+
+    @Override
+    public boolean hasEnchant(@NotNull final Enchantment enchantment) {
+        return hasEnchants() && enchantments.containsKey(enchantment);
+    }
+
+    @Override
+    public int getEnchantLevel(@NotNull final Enchantment enchantment) {
+        final Integer level = hasEnchants() ? enchantments.get(enchantment) : null;
+        return level == null ? 0 : level;
+    }
+
+    @Override
+    public Map<Enchantment, Integer> getEnchants() {
+        return hasEnchants() ? ImmutableMap.copyOf(enchantments) : ImmutableMap.of();
+    }
+
+    @Override
+    public boolean addEnchant(@NotNull final Enchantment enchantment, final int level, final boolean ignoreRestrictions) {
+        Preconditions.checkArgument(enchantment != null, "Enchantment cannot be null");
+        if (enchantments == null) enchantments = new LinkedHashMap<>(4);
+
+        if (ignoreRestrictions || level >= enchantment.getStartLevel() && level <= enchantment.getMaxLevel()) {
+            final Integer old = enchantments.put(enchantment, level);
+            return old == null || old != level;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeEnchant(@NotNull final Enchantment enchantment) {
+        return hasEnchants() && enchantments.remove(enchantment) != null;
+    }
+
+    @Override
+    public void addItemFlags(@NotNull final ItemFlag... flags) {
+        for (final ItemFlag flag : flags) hideFlag |= bitModifier(flag);
+    }
+
+    @Override
+    public void removeItemFlags(@NotNull final ItemFlag... flags) {
+        for (final ItemFlag flag : flags) hideFlag &= ~bitModifier(flag);
+    }
+
+    @Override
+    public Set<ItemFlag> getItemFlags() {
+        final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+        for (final ItemFlag flag : ItemFlag.values()) {
+            if (hasItemFlag(flag)) flags.add(flag);
+        }
+        return flags;
+    }
+
+    @Override
+    public boolean hasItemFlag(@NotNull final ItemFlag flag) {
+        return (hideFlag & bitModifier(flag)) != 0;
+    }
+
+    @Override
+    public boolean isUnbreakable() {
+        return unbreakable;
+    }
+
+    @Override
+    public void setUnbreakable(final boolean unbreakable) {
+        this.unbreakable = unbreakable;
+    }
+
+    @Override
+    public PersistentDataContainer getPersistentDataContainer() {
+        return persistentDataContainer;
+    }
+
+    public boolean isEmpty() {
+        return displayName == null && !hasLore() && !hasEnchants() && hideFlag == 0 && !unbreakable
+            && customModelData == null && unhandledTags.isEmpty() && persistentDataContainer.isEmpty();
+    }
+
+    @Override
+    public CraftMetaItem clone() {
+        try {
+            final CraftMetaItem clone = (CraftMetaItem) super.clone();
+            if (lore != null) clone.lore = new ArrayList<>(lore);
+            if (enchantments != null) clone.enchantments = new LinkedHashMap<>(enchantments);
+            clone.unhandledTags = new LinkedHashMap<>(unhandledTags);
+            clone.persistentDataContainer = StandIns.create(CraftPersistentDataContainer.class);
+            clone.persistentDataContainer.putAll(persistentDataContainer.getRaw());
+            return clone;
+        } catch (CloneNotSupportedException exception) {
+            throw new Error(exception);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+
+        final CraftMetaItem that = (CraftMetaItem) object;
+        return Objects.equals(displayName, that.displayName)
+            && Objects.equals(hasLore() ? lore : null, that.hasLore() ? that.lore : null)
+            && getEnchants().equals(that.getEnchants())
+            && hideFlag == that.hideFlag
+            && unbreakable == that.unbreakable
+            && Objects.equals(customModelData, that.customModelData)
+            && unhandledTags.equals(that.unhandledTags)
+            && persistentDataContainer.equals(that.persistentDataContainer);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 61 * hash + Objects.hashCode(displayName);
+        hash = 61 * hash + (hasLore() ? lore.hashCode() : 0);
+        hash = 61 * hash + getEnchants().hashCode();
+        hash = 61 * hash + hideFlag;
+        hash = 61 * hash + Boolean.hashCode(unbreakable);
+        hash = 61 * hash + Objects.hashCode(customModelData);
+        hash = 61 * hash + unhandledTags.hashCode();
+        hash = 61 * hash + persistentDataContainer.hashCode();
+        return hash;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + displayName + ", lore=" + lore + ", enchants=" + enchantments
+            + ", flags=" + hideFlag + ", tags=" + unhandledTags + ", values=" + persistentDataContainer.getRaw() + "}";
+    }
+
+    private static int bitModifier(@NotNull final ItemFlag flag) {
+        return 1 << flag.ordinal();
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static List<String> castList(@Nullable final Object value) {
+        return value instanceof List ? (List<String>) value : new ArrayList<>();
+    }
+}
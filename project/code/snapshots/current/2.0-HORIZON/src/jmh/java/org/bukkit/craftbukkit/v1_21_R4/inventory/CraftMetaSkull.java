@@ -0,0 +1,79 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.inventory;
+
+import net.minecraft.server.v1_21_R4.NBTTagCompound;
+import org.bukkit.craftbukkit.v1_21_R4.profile.CraftPlayerProfile;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.profile.PlayerProfile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Benchmark stand-in for the skull meta, only the owner profile is supported
+ * Profiles are copied when they are set and read, like on the server
+ * The generated subclass has no profile field of its own, so the skull builder logs once that it can't find it
+ * and then uses the player profile API like it does on current servers
+ */
+public abstract class CraftMetaSkull extends CraftMetaItem implements SkullMeta {
+
+    private static final String SKULL_OWNER = "SkullOwner";
+
+    private CraftPlayerProfile profile;
+
+    protected CraftMetaSkull() {}
+
+    @Override
+    void loadTag(@NotNull final String key, @NotNull final NBTTagCompound tag) {
+        if (!key.equals(SKULL_OWNER)) {
+            super.loadTag(key, tag);
+            return;
+        }
+
+        profile = ((CraftPlayerProfile) tag.get(SKULL_OWNER)).clone();
+    }
+
+    @Override
+    void applyToItem(@NotNull final NBTTagCompound tag) {
+        super.applyToItem(tag);
+        if (profile != null) tag.set(SKULL_OWNER, profile.clone());
+    }
+
+    @Override
+    public PlayerProfile getOwnerProfile() {
+        return profile == null ? null : profile.clone();
+    }
+
+    @Override
+    public void setOwnerProfile(@Nullable final PlayerProfile profile) {
+        this.profile = profile == null ? null : ((CraftPlayerProfile) profile).clone();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && profile == null;
+    }
+
+    @Override
+    public CraftMetaSkull clone() {
+        return (CraftMetaSkull) super.clone();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        return super.equals(object) && Objects.equals(profile, ((CraftMetaSkull) object).profile);
+    }
+
+    @Override
+    public int hashCode() {
+        return 61 * super.hashCode() + Objects.hashCode(profile);
+    }
+}
@@ -0,0 +1,98 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.persistence;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark stand-in for the persistent data container
+ * Values are keyed by the string form of their key, so every access builds the key string like on the server
+ */
+public abstract class CraftPersistentDataContainer implements PersistentDataContainer {
+
+    private final Map<String, Object> customDataTags = new HashMap<>();
+
+    protected CraftPersistentDataContainer() {}
+
+    @Override
+    public <P, C> void set(@NotNull final NamespacedKey key, @NotNull final PersistentDataType<P, C> type, @NotNull final C value) {
+        Preconditions.checkArgument(key != null, "The NamespacedKey key cannot be null");
+        Preconditions.checkArgument(type != null, "The provided type cannot be null");
+        Preconditions.checkArgument(value != null, "The provided value cannot be null");
+        customDataTags.put(key.toString(), type.toPrimitive(value, null));
+    }
+
+    @Override
+    public <P, C> boolean has(@NotNull final NamespacedKey key, @NotNull final PersistentDataType<P, C> type) {
+        final Object value = customDataTags.get(key.toString());
+        return value != null && type.getPrimitiveType().isInstance(value);
+    }
+
+    @Override
+    public boolean has(@NotNull final NamespacedKey key) {
+        return customDataTags.containsKey(key.toString());
+    }
+
+    @Override
+    public <P, C> C get(@NotNull final NamespacedKey key, @NotNull final PersistentDataType<P, C> type) {
+        final Object value = customDataTags.get(key.toString());
+        if (value == null) return null;
+        return type.fromPrimitive(type.getPrimitiveType().cast(value), null);
+    }
+
+    @Override
+    public void remove(@NotNull final NamespacedKey key) {
+        customDataTags.remove(key.toString());
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        final Set<NamespacedKey> keys = new HashSet<>();
+        for (final String key : customDataTags.keySet()) {
+            final int separator = key.indexOf(':');
+            keys.add(new NamespacedKey(key.substring(0, separator), key.substring(separator + 1)));
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return customDataTags.isEmpty();
+    }
+
+    @NotNull
+    public Map<String, Object> getRaw() {
+        return customDataTags;
+    }
+
+    public void putAll(@NotNull final Map<String, Object> map) {
+        customDataTags.putAll(map);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (!(object instanceof CraftPersistentDataContainer)) return false;
+        return customDataTags.equals(((CraftPersistentDataContainer) object).customDataTags);
+    }
+
+    @Override
+    public int hashCode() {
+        return customDataTags.hashCode();
+    }
+}
@@ -0,0 +1,87 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.profile;
+
+import io.rhythmknights.coreapi.benchmark.StandIns;
+
+import org.bukkit.profile.PlayerProfile;
+import org.bukkit.profile.PlayerTextures;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Benchmark stand-in for the player profile, profiles are never completed from the session server
+ */
+public abstract class CraftPlayerProfile implements PlayerProfile {
+
+    private final UUID uniqueId;
+    private final String name;
+    private final CraftPlayerTextures textures = StandIns.create(CraftPlayerTextures.class);
+
+    protected CraftPlayerProfile(@Nullable final UUID uniqueId, @Nullable final String name) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+    }
+
+    @Override
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    @Override
+    public PlayerTextures getTextures() {
+        return textures;
+    }
+
+    @Override
+    public void setTextures(@Nullable final PlayerTextures textures) {
+        if (textures == null) {
+            this.textures.clear();
+            return;
+        }
+
+        this.textures.copyFrom(textures);
+    }
+
+    @Override
+    public boolean isComplete() {
+        return uniqueId != null && name != null && !name.isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public CraftPlayerProfile clone() {
+        final CraftPlayerProfile clone = StandIns.create(CraftPlayerProfile.class, uniqueId, name);
+        clone.textures.copyFrom(textures);
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (!(object instanceof CraftPlayerProfile)) return false;
+
+        final CraftPlayerProfile that = (CraftPlayerProfile) object;
+        return Objects.equals(uniqueId, that.uniqueId) && Objects.equals(name, that.name) && textures.equals(that.textures);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uniqueId, name, textures);
+    }
+}
@@ -0,0 +1,98 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package org.bukkit.craftbukkit.v1_21_R4.profile;
+
+import org.bukkit.profile.PlayerTextures;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * Benchmark stand-in for the textures of a player profile, textures are never signed
+ */
+public abstract class CraftPlayerTextures implements PlayerTextures {
+
+    private URL skin;
+    private URL cape;
+    private long timestamp;
+
+    protected CraftPlayerTextures() {}
+
+    void copyFrom(@NotNull final PlayerTextures other) {
+        skin = other.getSkin();
+        cape = other.getCape();
+        timestamp = other.getTimestamp();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return skin == null && cape == null;
+    }
+
+    @Override
+    public void clear() {
+        skin = null;
+        cape = null;
+        timestamp = 0;
+    }
+
+    @Override
+    public URL getSkin() {
+        return skin;
+    }
+
+    @Override
+    public void setSkin(@Nullable final URL skinUrl) {
+        skin = skinUrl;
+        timestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public URL getCape() {
+        return cape;
+    }
+
+    @Override
+    public void setCape(@Nullable final URL capeUrl) {
+        cape = capeUrl;
+        timestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean isSigned() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (!(object instanceof CraftPlayerTextures)) return false;
+
+        // URL#equals resolves hosts, compare the text like the server compares the encoded property
+        final CraftPlayerTextures that = (CraftPlayerTextures) object;
+        return Objects.equals(text(skin), text(that.skin)) && Objects.equals(text(cape), text(that.cape));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text(skin), text(cape));
+    }
+
+    @Nullable
+    private static String text(@Nullable final URL url) {
+        return url == null ? null : url.toExternalForm();
+    }
+}
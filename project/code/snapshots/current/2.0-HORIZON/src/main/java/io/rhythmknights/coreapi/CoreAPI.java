@@ -8,25 +8,89 @@
 
 package io.rhythmknights.coreapi;
 
+import io.rhythmknights.coreapi.component.command.CoreAPICommand;
 import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.modal.ModalTracker;
+import io.rhythmknights.coreapi.component.scheduler.BukkitModalScheduler;
+import io.rhythmknights.coreapi.component.scheduler.FoliaModalScheduler;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+import io.rhythmknights.coreapi.component.utility.VersionHelper;
 
+import org.bukkit.Bukkit;
+import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public final class CoreAPI {
 
     // The plugin instance for registering the event and for the close delay.
     private static Plugin PLUGIN = null;
+    // The scheduler every modal uses for closing, reopening and patching, picked once for the platform.
+    private static ModalScheduler SCHEDULER = null;
+    // Shared executor for work kept off the server threads, virtual threads when the runtime has them.
+    private static volatile ExecutorService EXECUTOR = null;
 
     private CoreAPI() {}
 
     public static void init(final @NotNull Plugin plugin) {
+        init(plugin, VersionHelper.IS_FOLIA ? new FoliaModalScheduler(plugin) : new BukkitModalScheduler(plugin));
+    }
+
+    public static void init(final @NotNull Plugin plugin, final @NotNull ModalScheduler scheduler) {
         PLUGIN = plugin;
+        SCHEDULER = scheduler;
+        ModalTracker.startLeakChecks(scheduler);
+
+        // Only the plugin that declares the command in its plugin.yml handles it.
+        final PluginCommand command = Bukkit.getPluginCommand("coreapi");
+        if (command != null && command.getPlugin() == plugin) {
+            final CoreAPICommand executor = new CoreAPICommand();
+            command.setExecutor(executor);
+            command.setTabCompleter(executor);
+        }
     }
 
     public static @NotNull Plugin getPlugin() {
         if (PLUGIN == null) init(JavaPlugin.getProvidingPlugin(BaseModal.class));
         return PLUGIN;
     }
+
+    public static @NotNull ModalScheduler getScheduler() {
+        if (SCHEDULER == null) getPlugin();
+        return SCHEDULER;
+    }
+
+    public static @NotNull ExecutorService getExecutor() {
+        ExecutorService executor = EXECUTOR;
+        if (executor != null) return executor;
+
+        synchronized (CoreAPI.class) {
+            if (EXECUTOR == null) EXECUTOR = createExecutor();
+            return EXECUTOR;
+        }
+    }
+
+    public static void setExecutor(final @NotNull ExecutorService executor) {
+        EXECUTOR = executor;
+    }
+
+    private static @NotNull ExecutorService createExecutor() {
+        try {
+            // Java 21+, looked up reflectively since the API targets Java 17.
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "CoreAPI-Worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
@@ -0,0 +1,296 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.command;
+
+import io.rhythmknights.coreapi.component.metric.ClickHeatmap;
+import io.rhythmknights.coreapi.component.metric.LatencyHistogram;
+import io.rhythmknights.coreapi.component.metric.ModalMetrics;
+import io.rhythmknights.coreapi.component.metric.ModalStats;
+import io.rhythmknights.coreapi.component.modal.ModalTracker;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Executor of the {@code /coreapi} admin command declared in the plugin.yml
+ */
+public final class CoreAPICommand implements TabExecutor {
+
+    private static final String PERMISSION = "coreapi.admin";
+    private static final int DEFAULT_LIMIT = 10;
+
+    @Override
+    public boolean onCommand(
+        @NotNull final CommandSender sender,
+        @NotNull final Command command,
+        @NotNull final String label,
+        @NotNull final String[] args
+    ) {
+        if (!sender.hasPermission(PERMISSION)) {
+            sender.sendMessage("§cYou don't have permission to use this command.");
+            return true;
+        }
+
+        if (args.length == 0) {
+            sendUsage(sender, label);
+            return true;
+        }
+
+        switch (args[0].toLowerCase(Locale.ROOT)) {
+            case "stats":
+                stats(sender, Arrays.copyOfRange(args, 1, args.length));
+                return true;
+            case "heatmap":
+                heatmap(sender, Arrays.copyOfRange(args, 1, args.length));
+                return true;
+            case "memory":
+                memory(sender, Arrays.copyOfRange(args, 1, args.length));
+                return true;
+            default:
+                sendUsage(sender, label);
+                return true;
+        }
+    }
+
+    @Override
+    public List<String> onTabComplete(
+        @NotNull final CommandSender sender,
+        @NotNull final Command command,
+        @NotNull final String alias,
+        @NotNull final String[] args
+    ) {
+        if (!sender.hasPermission(PERMISSION)) return Collections.emptyList();
+        if (args.length == 1) return matching(args[0], "stats", "heatmap", "memory");
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")) return matching(args[1], "time", "count", "reset");
+        if (args.length == 2 && args[0].equalsIgnoreCase("heatmap")) {
+            return matching(args[1], ClickHeatmap.getModalNames().toArray(new String[0]));
+        }
+        if (args.length == 3 && args[0].equalsIgnoreCase("heatmap")) {
+            return matching(args[2], Arrays.stream(ClickType.values()).map(Enum::name).toArray(String[]::new));
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Prints the modals with the most handler time or events
+     * Usage: {@code /coreapi stats [time|count|reset] [limit]}
+     */
+    private void stats(@NotNull final CommandSender sender, @NotNull final String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            ModalMetrics.reset();
+            sender.sendMessage("§aModal stats were reset.");
+            return;
+        }
+
+        final boolean byCount = args.length > 0 && args[0].equalsIgnoreCase("count");
+        final Comparator<ModalStats> order = byCount ? ModalMetrics.BY_COUNT : ModalMetrics.BY_HANDLER_TIME;
+        final int limit = args.length > 1 ? parseLimit(args[1]) : DEFAULT_LIMIT;
+
+        final List<ModalStats> top = ModalMetrics.getTop(order, limit);
+        if (top.isEmpty()) {
+            sender.sendMessage("§7No modal activity recorded yet.");
+            return;
+        }
+
+        sender.sendMessage("§6Top " + top.size() + " modals by " + (byCount ? "event count" : "handler time") + ":");
+
+        int rank = 1;
+        for (final ModalStats stats : top) {
+            final LatencyHistogram handler = stats.getHandlerTime();
+            final LatencyHistogram render = stats.getRenderTime();
+
+            sender.sendMessage("§e#" + rank++ + " §f" + stats.getName()
+                + " §7events §f" + handler.getCount()
+                + " §7total §f" + formatNanos(handler.getTotalNanos())
+                + " §7mean §f" + formatNanos(handler.getMeanNanos())
+                + " §7p99 §f" + formatBound(handler.getPercentileNanos(0.99)));
+            sender.sendMessage("   §7opens §f" + stats.getOpens()
+                + " §7closes §f" + stats.getCloses()
+                + " §7clicks §f" + stats.getClicks()
+                + " §7drags §f" + stats.getDrags()
+                + " §7cancelled §f" + stats.getCancelledInteractions()
+                + " §7titles §f" + stats.getTitleUpdates()
+                + " §7render mean §f" + formatNanos(render.getMeanNanos()));
+        }
+    }
+
+    /**
+     * Prints the clicks per slot of a modal as a grid, or the modals with counted clicks
+     * Usage: {@code /coreapi heatmap [modal] [click type]}
+     */
+    private void heatmap(@NotNull final CommandSender sender, @NotNull final String[] args) {
+        if (!ClickHeatmap.isEnabled()) sender.sendMessage("§7The click heatmap is turned off, counts are not updated.");
+
+        if (args.length == 0) {
+            final List<String> names = ClickHeatmap.getModalNames();
+            if (names.isEmpty()) {
+                sender.sendMessage("§7No clicks counted yet.");
+                return;
+            }
+
+            sender.sendMessage("§6Modals with counted clicks:");
+            for (final String name : names) {
+                final ClickHeatmap.Snapshot snapshot = ClickHeatmap.snapshot(name);
+                if (snapshot != null) sender.sendMessage("§e" + name + " §7clicks §f" + snapshot.getTotal());
+            }
+            return;
+        }
+
+        final ClickHeatmap.Snapshot snapshot = ClickHeatmap.snapshot(args[0]);
+        if (snapshot == null) {
+            sender.sendMessage("§cNo clicks counted for " + args[0] + ".");
+            return;
+        }
+
+        ClickType click = null;
+        if (args.length > 1) {
+            try {
+                click = ClickType.valueOf(args[1].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException exception) {
+                sender.sendMessage("§cUnknown click type " + args[1] + ".");
+                return;
+            }
+        }
+
+        final long[] counts = new long[snapshot.getSize()];
+        long max = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            counts[slot] = click == null ? snapshot.getCount(slot) : snapshot.getCount(slot, click);
+            max = Math.max(max, counts[slot]);
+        }
+
+        sender.sendMessage("§6Clicks of §f" + snapshot.getName() + (click == null ? "" : " §7(" + click.name() + ")")
+            + " §7total §f" + snapshot.getTotal());
+
+        for (int row = 0; row * 9 < counts.length; row++) {
+            final StringBuilder line = new StringBuilder();
+            for (int slot = row * 9; slot < Math.min(counts.length, row * 9 + 9); slot++) {
+                line.append(heat(counts[slot], max)).append(formatCount(counts[slot])).append(' ');
+            }
+            sender.sendMessage(line.toString().trim());
+        }
+
+        final int playerInventory = ClickHeatmap.PLAYER_INVENTORY;
+        final int outside = ClickHeatmap.OUTSIDE;
+        sender.sendMessage("§7player inventory §f" + (click == null ? snapshot.getCount(playerInventory) : snapshot.getCount(playerInventory, click))
+            + " §7outside §f" + (click == null ? snapshot.getCount(outside) : snapshot.getCount(outside, click)));
+    }
+
+    /**
+     * Prints the live modals per creation site with their estimated size
+     * Usage: {@code /coreapi memory [limit]}
+     */
+    private void memory(@NotNull final CommandSender sender, @NotNull final String[] args) {
+        final int limit = args.length > 0 ? parseLimit(args[0]) : DEFAULT_LIMIT;
+        final List<ModalTracker.SiteReport> reports = ModalTracker.report();
+
+        int live = 0;
+        int idle = 0;
+        int leaked = 0;
+        long bytes = 0;
+        for (final ModalTracker.SiteReport report : reports) {
+            live += report.getLive();
+            idle += report.getIdle();
+            leaked += report.getLeaked();
+            bytes += report.getEstimatedBytes();
+        }
+
+        sender.sendMessage("§6Live modals §f" + live
+            + " §7without viewers §f" + idle
+            + " §7possibly leaked §" + (leaked > 0 ? "c" : "f") + leaked
+            + " §7estimated §f" + formatBytes(bytes));
+
+        for (final ModalTracker.SiteReport report : reports.subList(0, Math.min(limit, reports.size()))) {
+            sender.sendMessage("§e" + report.getType() + " §7at §f" + report.getSite());
+            sender.sendMessage("   §7live §f" + report.getLive()
+                + " §7idle §f" + report.getIdle()
+                + " §7leaked §" + (report.getLeaked() > 0 ? "c" : "f") + report.getLeaked()
+                + " §7items §f" + report.getItems()
+                + " §7stacks §f" + report.getStacks()
+                + " §7actions §f" + report.getActions()
+                + " §7~§f" + formatBytes(report.getEstimatedBytes()));
+        }
+
+        if (leaked > 0) {
+            sender.sendMessage("§7Leaked modals had no viewers for over "
+                + ModalTracker.getLeakThreshold().getSeconds() + "s, they may also just not be garbage collected yet.");
+        }
+    }
+
+    private void sendUsage(@NotNull final CommandSender sender, @NotNull final String label) {
+        sender.sendMessage("§6/" + label + " stats [time|count] [limit] §7- Top modals by handler time or events");
+        sender.sendMessage("§6/" + label + " stats reset §7- Resets the modal stats");
+        sender.sendMessage("§6/" + label + " heatmap [modal] [click type] §7- Clicks per slot of a modal");
+        sender.sendMessage("§6/" + label + " memory [limit] §7- Live modals per creation site");
+    }
+
+    @NotNull
+    private static String heat(final long count, final long max) {
+        if (count == 0) return "§8";
+        final double ratio = (double) count / max;
+        if (ratio < 0.25) return "§2";
+        if (ratio < 0.5) return "§a";
+        if (ratio < 0.75) return "§e";
+        return "§c";
+    }
+
+    @NotNull
+    private static String formatCount(final long count) {
+        if (count >= 1_000_000L) return String.format(Locale.ROOT, "%.1fM", count / 1_000_000D);
+        if (count >= 1_000L) return String.format(Locale.ROOT, "%.1fk", count / 1_000D);
+        return Long.toString(count);
+    }
+
+    private static int parseLimit(@NotNull final String value) {
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException exception) {
+            return DEFAULT_LIMIT;
+        }
+    }
+
+    @NotNull
+    private static List<String> matching(@NotNull final String input, @NotNull final String... options) {
+        final List<String> result = new ArrayList<>();
+        for (final String option : options) {
+            if (option.toLowerCase(Locale.ROOT).startsWith(input.toLowerCase(Locale.ROOT))) result.add(option);
+        }
+        return result;
+    }
+
+    @NotNull
+    static String formatNanos(final long nanos) {
+        if (nanos >= 1_000_000_000L) return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000D);
+        if (nanos >= 1_000_000L) return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000D);
+        if (nanos >= 1_000L) return String.format(Locale.ROOT, "%.1fµs", nanos / 1_000D);
+        return nanos + "ns";
+    }
+
+    @NotNull
+    private static String formatBytes(final long bytes) {
+        if (bytes >= 1_048_576L) return String.format(Locale.ROOT, "%.1fMiB", bytes / 1_048_576D);
+        if (bytes >= 1_024L) return String.format(Locale.ROOT, "%.1fKiB", bytes / 1_024D);
+        return bytes + "B";
+    }
+
+    @NotNull
+    private static String formatBound(final long nanos) {
+        return nanos == Long.MAX_VALUE ? ">50ms" : "≤" + formatNanos(nanos);
+    }
+}
@@ -0,0 +1,361 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+
+/**
+ * Opt-in count of the clicks per modal name, slot and {@link ClickType}
+ * Clicks land in a striped {@link AtomicLongArray} per modal name, so recording is lock-free and allocates nothing
+ * The counts can be read as a {@link Snapshot} or appended to a local file periodically
+ */
+public final class ClickHeatmap {
+
+    /**
+     * Slot of clicks in the player's own inventory
+     */
+    public static final int PLAYER_INVENTORY = -1;
+
+    /**
+     * Slot of clicks outside the inventory window
+     */
+    public static final int OUTSIDE = -2;
+
+    // Largest top inventory, a double chest.
+    private static final int MAX_SLOTS = 54;
+    private static final int COLUMNS = MAX_SLOTS + 2;
+    private static final ClickType[] CLICK_TYPES = ClickType.values();
+    private static final int CELLS = COLUMNS * CLICK_TYPES.length;
+    private static final int STRIPES = stripes();
+
+    private static final Map<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+    private static final Object FLUSH_LOCK = new Object();
+
+    private static volatile boolean enabled;
+    private static volatile Path flushFile;
+    private static volatile ModalScheduler.Task flushTask;
+
+    private ClickHeatmap() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Turns the counting on or off, it is off by default
+     *
+     * @param enabled Whether clicks are counted
+     */
+    public static void setEnabled(final boolean enabled) {
+        ClickHeatmap.enabled = enabled;
+    }
+
+    /**
+     * Checks if clicks are counted
+     *
+     * @return Whether the heatmap is on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Counts a click, does nothing while the heatmap is off
+     *
+     * @param modal   The clicked modal
+     * @param rawSlot The raw slot of the click
+     * @param click   The {@link ClickType}
+     */
+    public static void record(@NotNull final BaseModal modal, final int rawSlot, @NotNull final ClickType click) {
+        if (!enabled) return;
+
+        final int size = Math.min(modal.getInventory().getSize(), MAX_SLOTS);
+        final String name = modal.getName();
+
+        Counters counters = COUNTERS.get(name);
+        if (counters == null) counters = COUNTERS.computeIfAbsent(name, Counters::new);
+        if (counters.size < size) counters.size = size;
+
+        final int column;
+        if (rawSlot < 0) column = MAX_SLOTS + 1;
+        else if (rawSlot < size) column = rawSlot;
+        else column = MAX_SLOTS;
+
+        counters.cells.getAndIncrement(stripe() * CELLS + column * CLICK_TYPES.length + click.ordinal());
+    }
+
+    /**
+     * Gets the counts of a modal name
+     *
+     * @param name The modal name
+     * @return The {@link Snapshot}, or null if no click of the modal was counted
+     */
+    @Nullable
+    public static Snapshot snapshot(@NotNull final String name) {
+        final Counters counters = COUNTERS.get(name);
+        return counters == null ? null : new Snapshot(name, counters.size, counters.sum());
+    }
+
+    /**
+     * Gets the modal names with counted clicks
+     *
+     * @return A sorted snapshot of the names
+     */
+    @NotNull
+    public static List<String> getModalNames() {
+        final List<String> names = new ArrayList<>(COUNTERS.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Forgets every counted click
+     */
+    public static void reset() {
+        synchronized (FLUSH_LOCK) {
+            COUNTERS.clear();
+        }
+    }
+
+    /**
+     * Appends the new counts to a file at a fixed interval, replacing the previous flush target
+     * The file is written off the main thread with {@link CoreAPI#getExecutor()}
+     *
+     * @param file     The file to append to, created when missing
+     * @param interval The time between flushes, at least one tick
+     */
+    public static void startFlushing(@NotNull final Path file, @NotNull final Duration interval) {
+        final long period = Math.max(1, interval.toMillis() / 50);
+
+        synchronized (FLUSH_LOCK) {
+            stopFlushing();
+            flushFile = file;
+            flushTask = CoreAPI.getScheduler().runTimer(
+                () -> CoreAPI.getExecutor().execute(ClickHeatmap::flushQuietly),
+                period,
+                period
+            );
+        }
+    }
+
+    /**
+     * Stops the periodic flushes, the counts not yet flushed are kept
+     */
+    public static void stopFlushing() {
+        synchronized (FLUSH_LOCK) {
+            final ModalScheduler.Task task = flushTask;
+            if (task != null) task.cancel();
+            flushTask = null;
+            flushFile = null;
+        }
+    }
+
+    /**
+     * Appends the counts that changed since the last flush to the flush file
+     * Each line is {@code time,modal,slot,click,count} where count is the amount of clicks since the last flush
+     *
+     * @throws IOException If the file could not be written
+     */
+    public static void flush() throws IOException {
+        synchronized (FLUSH_LOCK) {
+            final Path file = flushFile;
+            Preconditions.checkState(file != null, "No flush file was set, use startFlushing first!");
+            flush(file);
+        }
+    }
+
+    private static void flushQuietly() {
+        synchronized (FLUSH_LOCK) {
+            final Path file = flushFile;
+            if (file == null) return;
+
+            try {
+                flush(file);
+            } catch (IOException exception) {
+                CoreAPI.getPlugin().getLogger().log(Level.WARNING, "Could not flush the click heatmap to " + file, exception);
+            }
+        }
+    }
+
+    private static void flush(@NotNull final Path file) throws IOException {
+        final long time = System.currentTimeMillis();
+        final Map<Counters, long[]> written = new HashMap<>();
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        )) {
+            for (final Counters counters : COUNTERS.values()) {
+                final long[] totals = counters.sum();
+
+                for (int cell = 0; cell < CELLS; cell++) {
+                    final long delta = totals[cell] - counters.flushed[cell];
+                    if (delta == 0) continue;
+
+                    writer.write(time + "," + csv(counters.name) + "," + slotOf(cell / CLICK_TYPES.length)
+                        + "," + CLICK_TYPES[cell % CLICK_TYPES.length].name() + "," + delta);
+                    writer.newLine();
+                }
+
+                written.put(counters, totals);
+            }
+        }
+
+        // Only marked as flushed once the file was closed, a failed flush is retried with the next one.
+        written.forEach((counters, totals) -> System.arraycopy(totals, 0, counters.flushed, 0, CELLS));
+    }
+
+    private static int slotOf(final int column) {
+        if (column == MAX_SLOTS) return PLAYER_INVENTORY;
+        if (column == MAX_SLOTS + 1) return OUTSIDE;
+        return column;
+    }
+
+    private static int columnOf(final int slot) {
+        Preconditions.checkArgument(slot >= OUTSIDE && slot < MAX_SLOTS, "Invalid slot " + slot);
+        if (slot == PLAYER_INVENTORY) return MAX_SLOTS;
+        if (slot == OUTSIDE) return MAX_SLOTS + 1;
+        return slot;
+    }
+
+    @NotNull
+    private static String csv(@NotNull final String value) {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static int stripe() {
+        // Threads of the same region keep hitting the same stripe, different regions spread out.
+        final long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & (STRIPES - 1);
+    }
+
+    private static int stripes() {
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        return processors <= 1 ? 1 : Integer.highestOneBit((processors - 1) << 1);
+    }
+
+    /**
+     * The striped counters of one modal name
+     */
+    private static final class Counters {
+        private final String name;
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * CELLS);
+        private final long[] flushed = new long[CELLS];
+        private volatile int size;
+
+        private Counters(@NotNull final String name) {
+            this.name = name;
+        }
+
+        @NotNull
+        private long[] sum() {
+            final long[] totals = new long[CELLS];
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                final int offset = stripe * CELLS;
+                for (int cell = 0; cell < CELLS; cell++) {
+                    totals[cell] += cells.get(offset + cell);
+                }
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * The counts of one modal name at a point in time
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final int size;
+        private final long[] counts;
+
+        private Snapshot(@NotNull final String name, final int size, @NotNull final long[] counts) {
+            this.name = name;
+            this.size = size;
+            this.counts = counts;
+        }
+
+        /**
+         * Gets the modal name
+         *
+         * @return The name the clicks were counted under
+         */
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the size of the largest inventory seen for the modal
+         *
+         * @return The amount of top inventory slots
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Gets the clicks of a slot with a click type
+         *
+         * @param slot  The top inventory slot, {@link #PLAYER_INVENTORY} or {@link #OUTSIDE}
+         * @param click The {@link ClickType}
+         * @return The amount of clicks
+         */
+        public long getCount(final int slot, @NotNull final ClickType click) {
+            return counts[columnOf(slot) * CLICK_TYPES.length + click.ordinal()];
+        }
+
+        /**
+         * Gets the clicks of a slot with any click type
+         *
+         * @param slot The top inventory slot, {@link #PLAYER_INVENTORY} or {@link #OUTSIDE}
+         * @return The amount of clicks
+         */
+        public long getCount(final int slot) {
+            final int offset = columnOf(slot) * CLICK_TYPES.length;
+            long total = 0;
+            for (int i = 0; i < CLICK_TYPES.length; i++) total += counts[offset + i];
+            return total;
+        }
+
+        /**
+         * Gets the clicks of the whole modal
+         *
+         * @return The amount of clicks
+         */
+        public long getTotal() {
+            long total = 0;
+            for (final long count : counts) total += count;
+            return total;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed buckets, cheap enough to record every inventory event
+ * Recording only touches two {@link LongAdder}s, percentiles are estimated from the bucket bounds
+ */
+public final class LatencyHistogram {
+
+    // Upper bounds of the buckets in microseconds, the last bucket takes everything slower.
+    private static final long[] BOUNDS = {
+        1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, Long.MAX_VALUE
+    };
+    // The same bounds in nanoseconds, so a measurement is never rounded down into a faster bucket.
+    private static final long[] BOUNDS_NANOS = Arrays.stream(BOUNDS).map(TimeUnit.MICROSECONDS::toNanos).toArray();
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length];
+    private final LongAdder totalNanos = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one measurement
+     *
+     * @param nanos The measured time in nanoseconds
+     */
+    public void record(final long nanos) {
+        int index = 0;
+        while (nanos > BOUNDS_NANOS[index]) index++;
+
+        buckets[index].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     * Gets the amount of measurements
+     *
+     * @return The amount of recorded measurements
+     */
+    public long getCount() {
+        long count = 0;
+        for (final LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the sum of all measurements
+     *
+     * @return The total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the average measurement
+     *
+     * @return The mean time in nanoseconds, 0 without measurements
+     */
+    public long getMeanNanos() {
+        final long count = getCount();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket it falls in
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The estimated time in nanoseconds, {@link Long#MAX_VALUE} if it falls in the last bucket
+     */
+    public long getPercentileNanos(final double percentile) {
+        final long[] counts = getBucketCounts();
+        final long total = Arrays.stream(counts).sum();
+        if (total == 0) return 0;
+
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) return BOUNDS_NANOS[i];
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the amount of measurements per bucket
+     *
+     * @return The counts, in the order of {@link #getBucketBounds()}
+     */
+    @NotNull
+    public long[] getBucketCounts() {
+        final long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the upper bounds of the buckets
+     *
+     * @return The bounds in microseconds, the last one is {@link Long#MAX_VALUE}
+     */
+    @NotNull
+    public static long[] getBucketBounds() {
+        return BOUNDS.clone();
+    }
+
+    void reset() {
+        for (final LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+}
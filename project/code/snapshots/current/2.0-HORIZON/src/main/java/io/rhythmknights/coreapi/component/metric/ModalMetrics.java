@@ -0,0 +1,86 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link ModalStats} of every modal name seen since startup or the last reset
+ */
+public final class ModalMetrics {
+
+    private static final Map<String, ModalStats> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * Highest total time spent in the listeners first
+     */
+    public static final Comparator<ModalStats> BY_HANDLER_TIME =
+        Comparator.comparingLong((ModalStats stats) -> stats.getHandlerTime().getTotalNanos()).reversed();
+
+    /**
+     * Most handled events first
+     */
+    public static final Comparator<ModalStats> BY_COUNT =
+        Comparator.comparingLong((ModalStats stats) -> stats.getHandlerTime().getCount()).reversed();
+
+    private ModalMetrics() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Gets the stats of a modal name, creating them on first use
+     *
+     * @param name The modal name
+     * @return The {@link ModalStats} of the name
+     */
+    @NotNull
+    public static ModalStats stats(@NotNull final String name) {
+        return STATS.computeIfAbsent(name, ModalStats::new);
+    }
+
+    /**
+     * Gets the stats of every modal name
+     *
+     * @return An unmodifiable snapshot of the stats
+     */
+    @NotNull
+    public static List<ModalStats> getAll() {
+        return Collections.unmodifiableList(new ArrayList<>(STATS.values()));
+    }
+
+    /**
+     * Gets the modal names with the highest value first
+     *
+     * @param comparator The ordering, for example {@link #BY_HANDLER_TIME}
+     * @param limit      The maximum amount of entries
+     * @return The top stats
+     */
+    @NotNull
+    public static List<ModalStats> getTop(@NotNull final Comparator<ModalStats> comparator, final int limit) {
+        final List<ModalStats> sorted = new ArrayList<>(STATS.values());
+        sorted.sort(comparator);
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    /**
+     * Resets the counters of every modal name
+     */
+    public static void reset() {
+        for (final ModalStats stats : STATS.values()) {
+            stats.reset();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of every modal sharing a name
+ * The name is the one given with {@link io.rhythmknights.coreapi.component.modal.BaseModal#setName(String)}, or the modal class
+ */
+public final class ModalStats {
+
+    private final String name;
+
+    private final LongAdder opens = new LongAdder();
+    private final LongAdder closes = new LongAdder();
+    private final LongAdder clicks = new LongAdder();
+    private final LongAdder drags = new LongAdder();
+    private final LongAdder titleUpdates = new LongAdder();
+    private final LongAdder cancelledInteractions = new LongAdder();
+
+    // Time spent in the modal listeners, for every event of the modal.
+    private final LatencyHistogram handlerTime = new LatencyHistogram();
+    // Time spent filling the inventory with items.
+    private final LatencyHistogram renderTime = new LatencyHistogram();
+
+    ModalStats(@NotNull final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Counts an opened modal
+     */
+    public void recordOpen() {
+        opens.increment();
+    }
+
+    /**
+     * Counts a closed modal
+     */
+    public void recordClose() {
+        closes.increment();
+    }
+
+    /**
+     * Counts a click in the modal
+     */
+    public void recordClick() {
+        clicks.increment();
+    }
+
+    /**
+     * Counts a drag in the modal
+     */
+    public void recordDrag() {
+        drags.increment();
+    }
+
+    /**
+     * Counts a title update
+     */
+    public void recordTitleUpdate() {
+        titleUpdates.increment();
+    }
+
+    /**
+     * Counts an interaction that was cancelled by a modifier or a throttle
+     */
+    public void recordCancelledInteraction() {
+        cancelledInteractions.increment();
+    }
+
+    /**
+     * Records the time spent handling one event of the modal
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public void recordHandlerTime(final long nanos) {
+        handlerTime.record(nanos);
+    }
+
+    /**
+     * Records the time spent filling the inventory
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public void recordRenderTime(final long nanos) {
+        renderTime.record(nanos);
+    }
+
+    /**
+     * Gets the modal name
+     *
+     * @return The modal name
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the amount of opens
+     *
+     * @return The amount of opens
+     */
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    /**
+     * Gets the amount of closes
+     *
+     * @return The amount of closes
+     */
+    public long getCloses() {
+        return closes.sum();
+    }
+
+    /**
+     * Gets the amount of clicks
+     *
+     * @return The amount of clicks
+     */
+    public long getClicks() {
+        return clicks.sum();
+    }
+
+    /**
+     * Gets the amount of drags
+     *
+     * @return The amount of drags
+     */
+    public long getDrags() {
+        return drags.sum();
+    }
+
+    /**
+     * Gets the amount of title updates
+     *
+     * @return The amount of title updates
+     */
+    public long getTitleUpdates() {
+        return titleUpdates.sum();
+    }
+
+    /**
+     * Gets the amount of cancelled interactions
+     *
+     * @return The amount of cancelled interactions
+     */
+    public long getCancelledInteractions() {
+        return cancelledInteractions.sum();
+    }
+
+    /**
+     * Gets the time spent in the listeners
+     *
+     * @return The time spent in the listeners
+     */
+    @NotNull
+    public LatencyHistogram getHandlerTime() {
+        return handlerTime;
+    }
+
+    /**
+     * Gets the time spent filling the inventory
+     *
+     * @return The time spent filling the inventory
+     */
+    @NotNull
+    public LatencyHistogram getRenderTime() {
+        return renderTime;
+    }
+
+    void reset() {
+        opens.reset();
+        closes.reset();
+        clicks.reset();
+        drags.reset();
+        titleUpdates.reset();
+        cancelledInteractions.reset();
+        handlerTime.reset();
+        renderTime.reset();
+    }
+}
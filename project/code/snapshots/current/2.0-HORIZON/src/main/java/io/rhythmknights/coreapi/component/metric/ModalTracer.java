@@ -0,0 +1,92 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the start and end of every traced step of a modal's lifecycle
+ * Register implementations with {@link ModalTracing#register(ModalTracer)}, with none registered every call site
+ * goes to {@link #NOOP} whose empty methods the JIT inlines away
+ * Calls happen on the thread that runs the step and must be cheap and not throw
+ */
+public interface ModalTracer {
+
+    /**
+     * Tracer that does nothing, used while no tracer is registered
+     */
+    ModalTracer NOOP = new ModalTracer() {};
+
+    /**
+     * Called before a step starts
+     *
+     * @param modal  The modal
+     * @param phase  The step
+     * @param viewer The player the step is for, if any
+     * @param detail The slot, page or amount of items of the step, or {@code -1}
+     * @return A span handed back to {@link #end}, may be null
+     */
+    @Nullable
+    default Object begin(@NotNull final BaseModal modal, @NotNull final Phase phase, @Nullable final HumanEntity viewer, final int detail) {
+        return null;
+    }
+
+    /**
+     * Called after a step finished, also when it failed
+     *
+     * @param span    The span returned by {@link #begin}
+     * @param modal   The modal
+     * @param phase   The step
+     * @param failure What the action threw, only reported for {@link Phase#ACTION}
+     */
+    default void end(@Nullable final Object span, @NotNull final BaseModal modal, @NotNull final Phase phase, @Nullable final Throwable failure) {
+    }
+
+    /**
+     * The traced steps
+     */
+    enum Phase {
+        /**
+         * Opening the modal for a player, including the initial render
+         */
+        OPEN,
+        /**
+         * Writing the static items into the inventory
+         */
+        POPULATE,
+        /**
+         * Writing a page of a paginated or scrolling modal, detail is the page
+         */
+        PAGE_CHANGE,
+        /**
+         * Applying a batch of queued item writes, detail is the amount of writes
+         */
+        ITEM_WRITE,
+        /**
+         * Resolving a click to the actions it runs, detail is the raw slot
+         */
+        CLICK,
+        /**
+         * Running a single {@link io.rhythmknights.coreapi.component.module.ModalAction}, detail is the slot or {@code -1}
+         */
+        ACTION,
+        /**
+         * Changing the title, recreating the inventory for every viewer
+         */
+        TITLE_UPDATE,
+        /**
+         * Handling a player closing the modal
+         */
+        CLOSE
+    }
+}
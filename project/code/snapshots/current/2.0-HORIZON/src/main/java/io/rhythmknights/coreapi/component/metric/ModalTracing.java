@@ -0,0 +1,147 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry of the {@link ModalTracer}s the modals report to
+ * One tracer is called directly, several are called in registration order and ended in reverse
+ */
+public final class ModalTracing {
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ModalTracer[] tracers = new ModalTracer[0];
+    private static volatile ModalTracer current = ModalTracer.NOOP;
+
+    private ModalTracing() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Gets the tracer the call sites report to
+     * A call site must end its span on the same instance it began it on, as the tracer changes on registration
+     *
+     * @return {@link ModalTracer#NOOP}, the only registered tracer or one fanning out to all of them
+     */
+    @NotNull
+    public static ModalTracer current() {
+        return current;
+    }
+
+    /**
+     * Checks if any tracer is registered, for call sites that need extra work to describe a step
+     *
+     * @return Whether tracing is on
+     */
+    public static boolean isEnabled() {
+        return current != ModalTracer.NOOP;
+    }
+
+    /**
+     * Registers a tracer, registering the same tracer twice does nothing
+     *
+     * @param tracer The tracer to add
+     */
+    public static void register(@NotNull final ModalTracer tracer) {
+        Preconditions.checkArgument(tracer != ModalTracer.NOOP, "The no-op tracer can't be registered!");
+
+        synchronized (LOCK) {
+            final List<ModalTracer> list = new ArrayList<>(Arrays.asList(tracers));
+            if (list.contains(tracer)) return;
+
+            list.add(tracer);
+            publish(list);
+        }
+    }
+
+    /**
+     * Unregisters a tracer
+     *
+     * @param tracer The tracer to remove
+     * @return Whether the tracer was registered
+     */
+    public static boolean unregister(@NotNull final ModalTracer tracer) {
+        synchronized (LOCK) {
+            final List<ModalTracer> list = new ArrayList<>(Arrays.asList(tracers));
+            if (!list.remove(tracer)) return false;
+
+            publish(list);
+            return true;
+        }
+    }
+
+    /**
+     * Gets the registered tracers
+     *
+     * @return An unmodifiable snapshot in registration order
+     */
+    @NotNull
+    public static List<ModalTracer> getTracers() {
+        return Collections.unmodifiableList(Arrays.asList(tracers.clone()));
+    }
+
+    private static void publish(@NotNull final List<ModalTracer> list) {
+        final ModalTracer[] array = list.toArray(new ModalTracer[0]);
+        tracers = array;
+
+        if (array.length == 0) current = ModalTracer.NOOP;
+        else if (array.length == 1) current = array[0];
+        else current = new Composite(array);
+    }
+
+    /**
+     * Fans every call out to several tracers, keeping the span of each
+     */
+    private static final class Composite implements ModalTracer {
+        private final ModalTracer[] tracers;
+
+        private Composite(@NotNull final ModalTracer[] tracers) {
+            this.tracers = tracers;
+        }
+
+        @Override
+        public Object begin(
+            @NotNull final BaseModal modal,
+            @NotNull final Phase phase,
+            @Nullable final HumanEntity viewer,
+            final int detail
+        ) {
+            final Object[] spans = new Object[tracers.length];
+            for (int i = 0; i < tracers.length; i++) {
+                spans[i] = tracers[i].begin(modal, phase, viewer, detail);
+            }
+            return spans;
+        }
+
+        @Override
+        public void end(
+            @Nullable final Object span,
+            @NotNull final BaseModal modal,
+            @NotNull final Phase phase,
+            @Nullable final Throwable failure
+        ) {
+            final Object[] spans = (Object[]) span;
+            for (int i = tracers.length - 1; i >= 0; i--) {
+                tracers[i].end(spans[i], modal, phase, failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.modal.ModalTracker;
+import io.rhythmknights.coreapi.component.modal.PaginatedModal;
+import io.rhythmknights.coreapi.component.module.exception.ModalException;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+import io.rhythmknights.coreapi.component.utility.Legacy;
+import io.rhythmknights.coreapi.component.utility.SkullCache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToLongFunction;
+
+/**
+ * Serves the CoreAPI metrics in the Prometheus text format with the JDK {@link HttpServer}
+ * The text is built at a fixed interval off the server threads, a scrape only writes out the last built snapshot
+ * The exporter is off until {@link #start(int)} is called and should be stopped when the plugin disables
+ */
+public final class PrometheusExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Object LOCK = new Object();
+
+    private static volatile byte[] snapshot = new byte[0];
+    private static HttpServer server;
+    private static ExecutorService handler;
+    private static ModalScheduler.Task refreshTask;
+
+    private PrometheusExporter() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Starts serving {@code /metrics} on the loopback address, refreshing the snapshot every 5 seconds
+     *
+     * @param port The local port to listen on
+     */
+    public static void start(final int port) {
+        start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Starts serving {@code /metrics}, stopping the exporter first if it was already running
+     *
+     * @param address         The address to listen on, keep it local unless the port is firewalled
+     * @param refreshInterval The time between two snapshots, at least one tick
+     */
+    public static void start(@NotNull final InetSocketAddress address, @NotNull final Duration refreshInterval) {
+        Preconditions.checkArgument(!refreshInterval.isNegative(), "Refresh interval can't be negative!");
+        final long period = Math.max(1, refreshInterval.toMillis() / 50);
+
+        synchronized (LOCK) {
+            stop();
+
+            final HttpServer created;
+            try {
+                created = HttpServer.create(address, 0);
+            } catch (IOException exception) {
+                throw new ModalException("Could not start the metrics exporter on " + address, exception);
+            }
+
+            handler = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "CoreAPI-Metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            created.createContext("/metrics", PrometheusExporter::handle);
+            created.setExecutor(handler);
+            created.start();
+            server = created;
+
+            refresh();
+            refreshTask = CoreAPI.getScheduler().runTimer(
+                () -> CoreAPI.getExecutor().execute(PrometheusExporter::refresh),
+                period,
+                period
+            );
+        }
+    }
+
+    /**
+     * Stops the exporter, does nothing if it is not running
+     */
+    public static void stop() {
+        synchronized (LOCK) {
+            if (refreshTask != null) refreshTask.cancel();
+            if (server != null) server.stop(0);
+            if (handler != null) handler.shutdownNow();
+
+            refreshTask = null;
+            server = null;
+            handler = null;
+        }
+    }
+
+    /**
+     * Checks if the exporter is serving metrics
+     *
+     * @return Whether it is running
+     */
+    public static boolean isRunning() {
+        synchronized (LOCK) {
+            return server != null;
+        }
+    }
+
+    /**
+     * Builds a new snapshot of every metric, called on the refresh interval
+     */
+    public static void refresh() {
+        snapshot = render().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the last built snapshot
+     *
+     * @return The metrics in the Prometheus text format
+     */
+    @NotNull
+    public static String getSnapshot() {
+        return new String(snapshot, StandardCharsets.UTF_8);
+    }
+
+    private static void handle(@NotNull final HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final byte[] body = snapshot;
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            try (final OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @NotNull
+    static String render() {
+        final StringBuilder builder = new StringBuilder(4096);
+        final List<ModalStats> all = new ArrayList<>(ModalMetrics.getAll());
+        all.sort((first, second) -> first.getName().compareTo(second.getName()));
+
+        counter(builder, all, "coreapi_modal_opens_total", "Modals opened", ModalStats::getOpens);
+        counter(builder, all, "coreapi_modal_closes_total", "Modals closed", ModalStats::getCloses);
+        counter(builder, all, "coreapi_modal_clicks_total", "Clicks dispatched to modals", ModalStats::getClicks);
+        counter(builder, all, "coreapi_modal_drags_total", "Drags dispatched to modals", ModalStats::getDrags);
+        counter(builder, all, "coreapi_modal_title_updates_total", "Modal title changes", ModalStats::getTitleUpdates);
+        counter(builder, all, "coreapi_modal_cancelled_interactions_total", "Interactions cancelled by a modal", ModalStats::getCancelledInteractions);
+
+        histogram(builder, all, "coreapi_modal_handler_seconds", "Time spent in the modal listeners", true);
+        histogram(builder, all, "coreapi_modal_render_seconds", "Time spent writing modal items into the inventory", false);
+
+        // Live modals grouped by name, a modal counts until it is garbage collected.
+        final Map<String, long[]> live = new TreeMap<>();
+        for (final BaseModal modal : ModalTracker.getLiveModals()) {
+            final long[] values = live.computeIfAbsent(modal.getName(), name -> new long[2]);
+            values[0]++;
+            if (modal instanceof PaginatedModal) values[1] += ((PaginatedModal) modal).getPageItems().size();
+        }
+
+        header(builder, "coreapi_live_modals", "Modals created and not garbage collected yet", "gauge");
+        live.forEach((name, values) -> sample(builder, "coreapi_live_modals", "modal", name, values[0]));
+        header(builder, "coreapi_live_page_items", "Page items held by the live modals", "gauge");
+        live.forEach((name, values) -> sample(builder, "coreapi_live_page_items", "modal", name, values[1]));
+
+        final Map<String, CacheStats> caches = new TreeMap<>();
+        caches.put("skull_texture", SkullCache.getTextureStats());
+        caches.put("skull_owner", SkullCache.getOwnerStats());
+        caches.put("text_deserialize", Legacy.SERIALIZER.getDeserializeStats());
+        caches.put("text_serialize", Legacy.SERIALIZER.getSerializeStats());
+
+        header(builder, "coreapi_cache_hits_total", "Cache lookups that found an entry", "counter");
+        caches.forEach((name, stats) -> sample(builder, "coreapi_cache_hits_total", "cache", name, stats.hitCount()));
+        header(builder, "coreapi_cache_misses_total", "Cache lookups that had to create the entry", "counter");
+        caches.forEach((name, stats) -> sample(builder, "coreapi_cache_misses_total", "cache", name, stats.missCount()));
+        header(builder, "coreapi_cache_evictions_total", "Cache entries removed for size or age", "counter");
+        caches.forEach((name, stats) -> sample(builder, "coreapi_cache_evictions_total", "cache", name, stats.evictionCount()));
+
+        return builder.toString();
+    }
+
+    private static void counter(
+        @NotNull final StringBuilder builder,
+        @NotNull final List<ModalStats> all,
+        @NotNull final String metric,
+        @NotNull final String help,
+        @NotNull final ToLongFunction<ModalStats> value
+    ) {
+        header(builder, metric, help, "counter");
+        for (final ModalStats stats : all) {
+            sample(builder, metric, "modal", stats.getName(), value.applyAsLong(stats));
+        }
+    }
+
+    private static void histogram(
+        @NotNull final StringBuilder builder,
+        @NotNull final List<ModalStats> all,
+        @NotNull final String metric,
+        @NotNull final String help,
+        final boolean handler
+    ) {
+        final long[] bounds = LatencyHistogram.getBucketBounds();
+        header(builder, metric, help, "histogram");
+
+        for (final ModalStats stats : all) {
+            final LatencyHistogram histogram = handler ? stats.getHandlerTime() : stats.getRenderTime();
+            final long[] counts = histogram.getBucketCounts();
+            final String modal = escape(stats.getName());
+
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += counts[i];
+                final String bound = bounds[i] == Long.MAX_VALUE ? "+Inf" : seconds(bounds[i] * 1_000);
+                builder.append(metric).append("_bucket{modal=\"").append(modal).append("\",le=\"").append(bound)
+                    .append("\"} ").append(cumulative).append('\n');
+            }
+
+            builder.append(metric).append("_sum{modal=\"").append(modal).append("\"} ")
+                .append(seconds(histogram.getTotalNanos())).append('\n');
+            builder.append(metric).append("_count{modal=\"").append(modal).append("\"} ")
+                .append(cumulative).append('\n');
+        }
+    }
+
+    private static void header(
+        @NotNull final StringBuilder builder,
+        @NotNull final String metric,
+        @NotNull final String help,
+        @NotNull final String type
+    ) {
+        builder.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(
+        @NotNull final StringBuilder builder,
+        @NotNull final String metric,
+        @NotNull final String label,
+        @NotNull final String value,
+        final long sample
+    ) {
+        builder.append(metric).append('{').append(label).append("=\"").append(escape(value)).append("\"} ")
+            .append(sample).append('\n');
+    }
+
+    @NotNull
+    private static String seconds(final long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1_000_000_000D);
+    }
+
+    @NotNull
+    private static String escape(@NotNull final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
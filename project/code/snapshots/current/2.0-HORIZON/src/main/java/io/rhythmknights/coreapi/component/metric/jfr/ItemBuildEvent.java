@@ -0,0 +1,50 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An item builder turning its meta into a finished item
+ */
+@Name("io.rhythmknights.coreapi.ItemBuild")
+@Label("Item Build")
+@Description("An item builder applying its meta to the item")
+@Category({"CoreAPI", "Item"})
+@StackTrace(false)
+public final class ItemBuildEvent extends Event {
+
+    @Label("Builder")
+    String builder;
+
+    @Label("Material")
+    String material;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param builder  The builder class
+     * @param material The item material
+     */
+    public void complete(@NotNull final Class<?> builder, @NotNull final Material material) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.builder = builder.getSimpleName();
+        this.material = material.name();
+        commit();
+    }
+}
@@ -0,0 +1,52 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The dispatch of a click in a modal, including every action it ran
+ */
+@Name("io.rhythmknights.coreapi.ModalClick")
+@Label("Modal Click")
+@Description("A click dispatched to the actions of a modal")
+public final class ModalClickEvent extends ModalJfrEvent {
+
+    @Label("Slot")
+    int slot;
+
+    @Label("Click Type")
+    String clickType;
+
+    @Label("Cancelled")
+    boolean cancelled;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param source The clicked modal
+     * @param event  The click
+     */
+    public void complete(@NotNull final BaseModal source, @NotNull final InventoryClickEvent event) {
+        end();
+        if (!shouldCommit()) return;
+
+        describe(source);
+        slot = event.getRawSlot();
+        clickType = String.valueOf(event.getClick());
+        cancelled = event.isCancelled();
+        commit();
+    }
+}
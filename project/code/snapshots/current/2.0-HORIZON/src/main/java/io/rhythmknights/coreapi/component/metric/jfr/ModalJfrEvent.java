@@ -0,0 +1,51 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.modal.PaginatedModal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base of the modal Flight Recorder events, carrying which modal the event belongs to
+ * Every event is turned on and off through the usual JFR settings under {@code io.rhythmknights.coreapi.*}
+ */
+@Category({"CoreAPI", "Modal"})
+@StackTrace(false)
+abstract class ModalJfrEvent extends Event {
+
+    @Label("Modal")
+    String modal;
+
+    @Label("Modal Type")
+    String modalType;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Page")
+    int page;
+
+    /**
+     * Copies the modal details into the event
+     *
+     * @param source The modal the event belongs to
+     */
+    final void describe(@NotNull final BaseModal source) {
+        modal = source.getName();
+        modalType = source.modalType().name();
+        rows = source.getRows();
+        page = source instanceof PaginatedModal ? ((PaginatedModal) source).getCurrentPageNum() : 0;
+    }
+}
@@ -0,0 +1,44 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A modal being opened for a player, lasting as long as the open listener
+ */
+@Name("io.rhythmknights.coreapi.ModalOpen")
+@Label("Modal Open")
+@Description("A modal opened for a player")
+public final class ModalOpenEvent extends ModalJfrEvent {
+
+    @Label("Player")
+    String player;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param source The opened modal
+     * @param viewer The player opening it
+     */
+    public void complete(@NotNull final BaseModal source, @NotNull final HumanEntity viewer) {
+        end();
+        if (!shouldCommit()) return;
+
+        describe(source);
+        player = viewer.getName();
+        commit();
+    }
+}
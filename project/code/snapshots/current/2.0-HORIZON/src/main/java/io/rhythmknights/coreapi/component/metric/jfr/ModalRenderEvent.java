@@ -0,0 +1,43 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A modal or one of its pages being written into the inventory
+ */
+@Name("io.rhythmknights.coreapi.ModalRender")
+@Label("Modal Render")
+@Description("Items of a modal or page written into the inventory")
+public final class ModalRenderEvent extends ModalJfrEvent {
+
+    @Label("Slots Written")
+    int slotsWritten;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param source       The rendered modal
+     * @param slotsWritten The amount of slots that were written
+     */
+    public void complete(@NotNull final BaseModal source, final int slotsWritten) {
+        end();
+        if (!shouldCommit()) return;
+
+        describe(source);
+        this.slotsWritten = slotsWritten;
+        commit();
+    }
+}
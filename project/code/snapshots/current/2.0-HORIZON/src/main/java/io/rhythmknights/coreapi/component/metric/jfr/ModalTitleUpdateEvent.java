@@ -0,0 +1,43 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A title change of a modal, which recreates the inventory and reopens it for every viewer
+ */
+@Name("io.rhythmknights.coreapi.ModalTitleUpdate")
+@Label("Modal Title Update")
+@Description("A modal title change, recreating the inventory for every viewer")
+public final class ModalTitleUpdateEvent extends ModalJfrEvent {
+
+    @Label("Viewers")
+    int viewers;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param source  The modal
+     * @param viewers The amount of viewers that get the modal reopened
+     */
+    public void complete(@NotNull final BaseModal source, final int viewers) {
+        end();
+        if (!shouldCommit()) return;
+
+        describe(source);
+        this.viewers = viewers;
+        commit();
+    }
+}
@@ -0,0 +1,54 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.metric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A tag read from an item, through the PDC or the legacy NBT backend
+ */
+@Name("io.rhythmknights.coreapi.NbtRead")
+@Label("NBT Read")
+@Description("A tag read from an item")
+@Category({"CoreAPI", "Item"})
+@StackTrace(false)
+public final class NbtReadEvent extends Event {
+
+    @Label("Key")
+    String key;
+
+    @Label("Backend")
+    String backend;
+
+    @Label("Found")
+    boolean found;
+
+    /**
+     * Commits the event if it is enabled and over its threshold
+     *
+     * @param key     The tag key
+     * @param backend The NBT backend class
+     * @param found   Whether the item had the tag
+     */
+    public void complete(@NotNull final String key, @NotNull final Class<?> backend, final boolean found) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.key = key;
+        this.backend = backend.getSimpleName();
+        this.found = found;
+        commit();
+    }
+}
@@ -0,0 +1,374 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+import io.rhythmknights.coreapi.component.module.ModalAction;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Times every {@link ModalAction} the modal listener runs and reports the ones over budget
+ * Below the budget the cost is one {@link System#nanoTime()} pair and a few field writes
+ * A sampler thread captures the stack of an action while it is still running over budget, at most once per action per interval
+ * Actions that keep going over budget can be switched to run on {@link CoreAPI#getExecutor()} or be rejected
+ * The sampler is stopped by {@link #stop()} when the plugin disables
+ */
+public final class ActionWatchdog {
+
+    private static volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(50);
+    private static volatile long reportIntervalNanos = TimeUnit.SECONDS.toNanos(60);
+    private static volatile Policy policy = Policy.LOG;
+    private static volatile int offenseThreshold = 5;
+
+    // Call sites over budget, keyed by the action class, a lambda gets its own class per site.
+    private static final Map<Class<?>, Site> SITES = new ConcurrentHashMap<>();
+    // Set once any site is escalated, until then the dispatch never looks at SITES.
+    private static volatile boolean escalated;
+
+    // One probe per dispatching thread, read by the sampler, dropped once its thread is gone.
+    private static final List<Probe> PROBES = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Probe> PROBE = ThreadLocal.withInitial(() -> {
+        final Probe probe = new Probe(Thread.currentThread());
+        PROBES.add(probe);
+        startSampler();
+        return probe;
+    });
+    private static volatile Thread sampler;
+
+    private ActionWatchdog() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Sets the time an action may take before it is reported
+     *
+     * @param budget The budget, zero turns the watchdog off
+     */
+    public static void setBudget(@NotNull final Duration budget) {
+        Preconditions.checkArgument(!budget.isNegative(), "Budget can't be negative!");
+        budgetNanos = budget.toNanos();
+    }
+
+    /**
+     * Sets how often a single action is reported and has its stack captured
+     *
+     * @param interval The minimum time between two reports of the same action
+     */
+    public static void setReportInterval(@NotNull final Duration interval) {
+        Preconditions.checkArgument(!interval.isNegative(), "Interval can't be negative!");
+        reportIntervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Sets what happens to actions once they went over budget the given amount of times
+     *
+     * @param policy    The {@link Policy} for repeat offenders
+     * @param threshold The amount of slow calls before the policy applies
+     */
+    public static void setPolicy(@NotNull final Policy policy, final int threshold) {
+        Preconditions.checkArgument(threshold > 0, "Threshold must be at least 1!");
+        ActionWatchdog.policy = policy;
+        ActionWatchdog.offenseThreshold = threshold;
+    }
+
+    /**
+     * Stops the sampler thread, called when the plugin disables
+     */
+    public static void stop() {
+        final Thread thread;
+
+        synchronized (ActionWatchdog.class) {
+            thread = sampler;
+            sampler = null;
+        }
+
+        if (thread != null) thread.interrupt();
+    }
+
+    /**
+     * Forgets every slow action, escalated actions run normally again
+     */
+    public static void reset() {
+        escalated = false;
+        SITES.clear();
+    }
+
+    /**
+     * Runs an action of the modal listener under the watchdog, reporting it to the tracers
+     *
+     * @param modal  The modal the event belongs to
+     * @param kind   Which of the modal's actions it is
+     * @param action The action to run
+     * @param event  The event
+     * @param slot   The clicked slot, or -1
+     * @param item   The clicked item, if any
+     * @param <T>    The event type
+     */
+    static <T extends Event> void execute(
+        @NotNull final BaseModal modal,
+        @NotNull final String kind,
+        @NotNull final ModalAction<T> action,
+        @NotNull final T event,
+        final int slot,
+        @Nullable final ModalItem item
+    ) {
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer == ModalTracer.NOOP ? null : tracer.begin(
+            modal,
+            ModalTracer.Phase.ACTION,
+            event instanceof InventoryEvent ? ((InventoryEvent) event).getView().getPlayer() : null,
+            slot
+        );
+
+        Throwable failure = null;
+        try {
+            watch(modal, kind, action, event, slot, item);
+        } catch (RuntimeException | Error throwable) {
+            failure = throwable;
+            throw throwable;
+        } finally {
+            tracer.end(span, modal, ModalTracer.Phase.ACTION, failure);
+        }
+    }
+
+    /**
+     * Runs the action, timing it against the budget
+     */
+    private static <T extends Event> void watch(
+        @NotNull final BaseModal modal,
+        @NotNull final String kind,
+        @NotNull final ModalAction<T> action,
+        @NotNull final T event,
+        final int slot,
+        @Nullable final ModalItem item
+    ) {
+        final long budget = budgetNanos;
+        if (budget == 0) {
+            action.execute(event);
+            return;
+        }
+
+        if (escalated && escalate(modal, kind, action, event)) return;
+
+        final Probe probe = PROBE.get();
+        final Class<?> previousSite = probe.site;
+        final long previousStart = probe.start;
+        final long start = System.nanoTime();
+        probe.enter(action.getClass(), start);
+
+        try {
+            action.execute(event);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            final StackTraceElement[] sample = probe.exit(previousSite, previousStart);
+            if (elapsed > budget) report(modal, kind, action, slot, item, elapsed, sample);
+        }
+    }
+
+    /**
+     * Applies the policy to an action that went over budget too often
+     *
+     * @return Whether the action was handled and must not run normally
+     */
+    private static <T extends Event> boolean escalate(
+        @NotNull final BaseModal modal,
+        @NotNull final String kind,
+        @NotNull final ModalAction<T> action,
+        @NotNull final T event
+    ) {
+        final Site site = SITES.get(action.getClass());
+        if (site == null || site.offenses.get() < offenseThreshold) return false;
+
+        switch (policy) {
+            case ASYNC:
+                // The event is decided now, the action only gets to see it afterwards.
+                if (event instanceof Cancellable) ((Cancellable) event).setCancelled(true);
+                CoreAPI.getExecutor().execute(() -> action.execute(event));
+                return true;
+            case REJECT:
+                if (event instanceof Cancellable) ((Cancellable) event).setCancelled(true);
+                modal.stats().recordCancelledInteraction();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void report(
+        @NotNull final BaseModal modal,
+        @NotNull final String kind,
+        @NotNull final ModalAction<?> action,
+        final int slot,
+        @Nullable final ModalItem item,
+        final long elapsed,
+        @Nullable final StackTraceElement[] sample
+    ) {
+        final Site site = SITES.computeIfAbsent(action.getClass(), it -> new Site());
+        final int offenses = site.offenses.incrementAndGet();
+        if (policy != Policy.LOG && offenses >= offenseThreshold) escalated = true;
+
+        final long now = System.nanoTime();
+        final long last = site.lastReport.get();
+        if (last != 0 && now - last < reportIntervalNanos) {
+            site.suppressed.incrementAndGet();
+            return;
+        }
+        if (!site.lastReport.compareAndSet(last, now)) return;
+
+        final StringBuilder message = new StringBuilder("Slow ").append(kind).append(" action in modal '").append(modal.getName())
+            .append("' took ").append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms (budget ")
+            .append(TimeUnit.NANOSECONDS.toMillis(budgetNanos)).append("ms)");
+        if (slot >= 0) message.append(", slot ").append(slot);
+        if (item != null) message.append(", item ").append(item.getItemStack().getType());
+        message.append(", action ").append(action.getClass().getName())
+            .append(", slow calls ").append(offenses);
+
+        final int suppressed = site.suppressed.getAndSet(0);
+        if (suppressed > 0) message.append(" (").append(suppressed).append(" not reported)");
+        if (offenses == offenseThreshold && policy != Policy.LOG) message.append(", now handled as ").append(policy);
+
+        final Throwable stack = sample == null ? null : new SlowActionTrace(sample);
+        CoreAPI.getPlugin().getLogger().log(Level.WARNING, message.toString(), stack);
+    }
+
+    private static void startSampler() {
+        if (sampler != null) return;
+
+        synchronized (ActionWatchdog.class) {
+            if (sampler != null) return;
+
+            final Thread thread = new Thread(ActionWatchdog::sample, "CoreAPI-Watchdog");
+            thread.setDaemon(true);
+            sampler = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Looks at every probe a few times per budget and captures the stack of actions that are running over budget
+     */
+    private static void sample() {
+        final Thread self = Thread.currentThread();
+
+        while (sampler == self && !self.isInterrupted()) {
+            final long budget = budgetNanos;
+            LockSupport.parkNanos(budget == 0 ? TimeUnit.SECONDS.toNanos(1) : Math.max(TimeUnit.MILLISECONDS.toNanos(1), budget / 4));
+            if (budget == 0) continue;
+
+            final long now = System.nanoTime();
+            for (final Probe probe : PROBES) {
+                final Thread thread = probe.thread.get();
+                if (thread == null || !thread.isAlive()) {
+                    PROBES.remove(probe);
+                    continue;
+                }
+
+                final Class<?> site = probe.site;
+                if (site == null || probe.sample != null || now - probe.start <= budget) continue;
+
+                // One stack per site per report interval, the first slow call after a quiet period gets it.
+                final Site known = SITES.get(site);
+                if (known != null && now - known.lastReport.get() < reportIntervalNanos) continue;
+
+                final StackTraceElement[] stack = thread.getStackTrace();
+                if (probe.site == site) probe.sample = stack;
+            }
+        }
+    }
+
+    /**
+     * What happens to actions that keep going over budget
+     */
+    public enum Policy {
+        /**
+         * Only report them
+         */
+        LOG,
+        /**
+         * Cancel the event and run the action on {@link CoreAPI#getExecutor()}, the action must not touch the world
+         */
+        ASYNC,
+        /**
+         * Cancel the event and skip the action
+         */
+        REJECT
+    }
+
+    /**
+     * Slow call statistics of one action class
+     */
+    private static final class Site {
+        private final AtomicInteger offenses = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+        private final AtomicLong lastReport = new AtomicLong();
+    }
+
+    /**
+     * The action a thread is running right now
+     */
+    private static final class Probe {
+        // Weak so the probe never keeps a finished thread and its stack alive.
+        private final WeakReference<Thread> thread;
+        private volatile Class<?> site;
+        private volatile long start;
+        private volatile StackTraceElement[] sample;
+
+        private Probe(@NotNull final Thread thread) {
+            this.thread = new WeakReference<>(thread);
+        }
+
+        private void enter(@NotNull final Class<?> site, final long start) {
+            this.sample = null;
+            this.start = start;
+            this.site = site;
+        }
+
+        @Nullable
+        private StackTraceElement[] exit(@Nullable final Class<?> previousSite, final long previousStart) {
+            final StackTraceElement[] captured = sample;
+            // Actions can open other modals and run nested actions, restore the outer one.
+            this.site = previousSite;
+            this.start = previousStart;
+            this.sample = null;
+            return captured;
+        }
+    }
+
+    /**
+     * Carries the sampled stack of a slow action into the log
+     */
+    private static final class SlowActionTrace extends Throwable {
+        private static final long serialVersionUID = 1L;
+
+        private SlowActionTrace(@NotNull final StackTraceElement[] stack) {
+            super("Sampled while the action was running", null, false, true);
+            setStackTrace(stack);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.component.module.ModalAction;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ModalItem} that cycles through the frames of a {@link ModalAnimation}
+ * Modals showing the item advance it from the shared ticker and only rewrite the animated slots
+ * The animation pauses while the modal has no viewers
+ * Setting an {@link ItemStack} on the item stops its animation and shows that stack from then on
+ */
+public class AnimatedModalItem extends ModalItem {
+
+    private final ModalAnimation animation;
+    // Set once an ItemStack replaced the frames, the shared animation itself keeps running for other items.
+    private volatile boolean stopped;
+
+    /**
+     * Main constructor of the AnimatedModalItem
+     *
+     * @param animation The shared {@link ModalAnimation} to show
+     * @param action    The {@link ModalAction} to run when clicking on any frame
+     */
+    public AnimatedModalItem(@NotNull final ModalAnimation animation, @Nullable final ModalAction<@NotNull InventoryClickEvent> action) {
+        super(animation.getId(), animation.currentFrame(), action);
+        this.animation = animation;
+    }
+
+    /**
+     * Secondary constructor with no action
+     *
+     * @param animation The shared {@link ModalAnimation} to show
+     */
+    public AnimatedModalItem(@NotNull final ModalAnimation animation) {
+        this(animation, null);
+    }
+
+    /**
+     * Gets the {@link ModalAnimation} of the item
+     *
+     * @return The {@link ModalAnimation}
+     */
+    @NotNull
+    public ModalAnimation getAnimation() {
+        return animation;
+    }
+
+    /**
+     * Checks whether the item still shows the frames of its animation
+     *
+     * @return Whether the item is animating, false once an {@link ItemStack} was set on it
+     */
+    public boolean isAnimating() {
+        return !stopped;
+    }
+
+    /**
+     * Gets the frame that is shown right now, or the {@link ItemStack} that was set once the animation stopped
+     *
+     * @return The current frame, shared and must not be modified
+     */
+    @NotNull
+    @Override
+    public ItemStack getItemStack() {
+        return stopped ? super.getItemStack() : animation.currentFrame();
+    }
+
+    /**
+     * Stops the animation of this item and shows the {@link ItemStack} instead
+     *
+     * @param itemStack The new {@link ItemStack}
+     */
+    @Override
+    public void setItemStack(@NotNull final ItemStack itemStack) {
+        super.setItemStack(itemStack);
+        stopped = true;
+    }
+}
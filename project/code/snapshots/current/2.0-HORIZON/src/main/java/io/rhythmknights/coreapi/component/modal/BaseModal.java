@@ -9,18 +9,23 @@
 package io.rhythmknights.coreapi.component.modal;
 
 import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.metric.ModalMetrics;
+import io.rhythmknights.coreapi.component.metric.ModalStats;
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalRenderEvent;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalTitleUpdateEvent;
 import io.rhythmknights.coreapi.component.module.ModalContainer;
 import io.rhythmknights.coreapi.component.module.ModalAction;
 import io.rhythmknights.coreapi.component.module.ModalType;
 import io.rhythmknights.coreapi.component.module.InteractionModifier;
 import io.rhythmknights.coreapi.component.module.exception.ModalException;
 import io.rhythmknights.coreapi.component.module.DynamicTitle;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
 import io.rhythmknights.coreapi.component.utility.ModalFiller;
-import io.rhythmknights.coreapi.component.utility.VersionHelper;
 
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
@@ -35,8 +40,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -44,6 +47,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -57,24 +68,22 @@ public abstract class BaseModal implements InventoryHolder {
     // The plugin instance for registering the event and for the close delay.
     private static final Plugin plugin = CoreAPI.getPlugin();
 
-    private static Method GET_SCHEDULER_METHOD = null;
-    private static Method EXECUTE_METHOD = null;
-
     // Registering the listener class.
     static {
-        try {
-            GET_SCHEDULER_METHOD = Entity.class.getMethod("getScheduler");
-            final Class<?> entityScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
-            EXECUTE_METHOD = entityScheduler.getMethod("execute", Plugin.class, Runnable.class, Runnable.class, long.class);
-        } catch (NoSuchMethodException | ClassNotFoundException ignored) {
-        }
-
         Bukkit.getPluginManager().registerEvents(new ModalListener(), plugin);
         Bukkit.getPluginManager().registerEvents(new InteractionModifierListener(), plugin);
     }
 
     // Modal filler.
     private final ModalFiller filler = new ModalFiller(this);
+    // Changes queued from other threads, applied on the owning thread.
+    private final ModalMutationQueue mutations = new ModalMutationQueue(this);
+    // Refresh callbacks driven by the shared ticker while the modal is open.
+    private final List<ModalTicker.Registration> refreshes = new CopyOnWriteArrayList<>();
+    // Async work started for the modal, cancelled when nobody is looking anymore.
+    private final ModalScope scope = new ModalScope();
+    // One refresh per animation used in the modal, shared by every slot showing it.
+    private final Map<ModalAnimation, ModalScheduler.Task> animations = new ConcurrentHashMap<>();
     // Contains all items the modal will have.
     private final Map<Integer, ModalItem> modalItems;
     // Actions for specific slots.
@@ -85,8 +94,8 @@ public abstract class BaseModal implements InventoryHolder {
     // Modal control
     private final ModalContainer modalContainer;
 
-    // Main inventory.
-    private Inventory inventory;
+    // Main inventory, swapped as a whole when the title changes so viewers on other threads see a complete snapshot.
+    private volatile Inventory inventory;
 
     // Action to execute when clicking on any item.
     private ModalAction<InventoryClickEvent> defaultClickAction;
@@ -104,21 +113,39 @@ public abstract class BaseModal implements InventoryHolder {
     private ModalAction<InventoryClickEvent> outsideClickAction;
 
     // Whether the modal is updating.
-    private boolean updating;
+    private volatile boolean updating;
+    // Viewers being reopened right now, each on its own thread on Folia.
+    private final Set<UUID> reopening = ConcurrentHashMap.newKeySet();
 
-    // Whether should run the actions from the close and open methods.
-    private boolean runCloseAction = true;
+    // Pending delayed closes per viewer, with whether the close action should run.
+    private final Map<UUID, Boolean> pendingCloses = new ConcurrentHashMap<>();
+    // Viewers being closed right now without running the close action.
+    private final Set<UUID> silentCloses = ConcurrentHashMap.newKeySet();
+
+    // Whether should run the actions from the open methods.
     private boolean runOpenAction = true;
     
     // Whether should update title on item clicks
     private boolean updateTitleOnItemClick = false;
 
+    // Name the modal's metrics are recorded under, the class name when not set.
+    private volatile String name;
+    private volatile ModalStats stats;
+    // Weak registration of the modal, told when the modal gains and loses its viewers.
+    private final ModalTracker.Handle tracking;
+
+    // Minimum time between two accepted clicks of the same player, in nanoseconds.
+    private long clickCooldown = 0;
+    private final ClickThrottle clickThrottle = new ClickThrottle();
+
     public BaseModal(final @NotNull ModalContainer modalContainer, @NotNull final Set<InteractionModifier> interactionModifiers) {
         this.interactionModifiers = safeCopyOf(interactionModifiers);
         this.modalContainer = modalContainer;
         this.inventory = modalContainer.createInventory(this);
         this.slotActions = new LinkedHashMap<>(modalContainer.inventorySize());
         this.modalItems = new LinkedHashMap<>(modalContainer.inventorySize());
+        // Last, so the report never sees a modal without its inventory and maps.
+        this.tracking = ModalTracker.track(this);
     }
 
     /**
@@ -152,6 +179,308 @@ public abstract class BaseModal implements InventoryHolder {
     public void setItem(final int slot, @NotNull final ModalItem modalItem) {
         validateSlot(slot);
         modalItems.put(slot, modalItem);
+        trackAnimation(modalItem);
+    }
+
+    /**
+     * Sets a placeholder {@link ModalItem} to a specific slot and patches it once the real {@link ItemStack} is ready.
+     * Meant for items that need a slow lookup, like {@link io.rhythmknights.coreapi.modal.builder.item.SkullBuilder#ownerAsync}.
+     *
+     * @param slot        The modal slot.
+     * @param placeholder The {@link ModalItem} to show until the item is ready.
+     * @param resolved    The future with the final {@link ItemStack}.
+     */
+    public void setItem(final int slot, @NotNull final ModalItem placeholder, @NotNull final CompletableFuture<? extends ItemStack> resolved) {
+        setItem(slot, placeholder);
+        patchItem(placeholder, resolved);
+    }
+
+    /**
+     * Replaces the {@link ItemStack} of a {@link ModalItem} once the future completes, on the thread that owns the viewers.
+     * Every slot currently showing the item is refreshed, if the future failed the item is left as is.
+     *
+     * @param modalItem The {@link ModalItem} to patch.
+     * @param resolved  The future with the new {@link ItemStack}.
+     */
+    public void patchItem(@NotNull final ModalItem modalItem, @NotNull final CompletableFuture<? extends ItemStack> resolved) {
+        // The patch is scoped rather than the lookup itself, which may be shared with other modals.
+        scope.register(resolved.thenAccept(itemStack -> runOnOwner(() -> {
+            modalItem.setItemStack(itemStack);
+            refreshItem(modalItem);
+        })));
+    }
+
+    /**
+     * Runs a task on the thread that owns the modal's viewers, inline when already on it.
+     * Without viewers there is nothing region bound to touch, so the global thread is used.
+     *
+     * @param task The task to run.
+     */
+    void runOnOwner(@NotNull final Runnable task) {
+        runOnOwner(task, () -> {});
+    }
+
+    /**
+     * Runs a task on the thread that owns the modal's viewers, inline when already on it.
+     * Without viewers there is nothing region bound to touch, so the global thread is used.
+     *
+     * @param task    The task to run.
+     * @param retired The callback to run if the task is dropped because the viewer it was scheduled on left.
+     */
+    void runOnOwner(@NotNull final Runnable task, @NotNull final Runnable retired) {
+        final ModalScheduler scheduler = CoreAPI.getScheduler();
+        final List<HumanEntity> viewers = inventory.getViewers();
+
+        if (viewers.isEmpty()) {
+            scheduler.executeGlobal(task);
+            return;
+        }
+
+        scheduler.execute(viewers.get(0), task, retired);
+    }
+
+    /**
+     * Gets the queue for changing the modal from any thread.
+     * The changes are applied in one batch on the thread that owns the viewers.
+     *
+     * @return The {@link ModalMutationQueue} of this modal.
+     */
+    @NotNull
+    public ModalMutationQueue mutations() {
+        return mutations;
+    }
+
+    /**
+     * Registers a callback that runs every interval while the modal is open, on the thread that owns the viewers.
+     * Every refresh of every modal is driven by one shared ticker instead of a task per modal.
+     * The refresh stops when the last viewer closes the modal and starts again when it's opened.
+     *
+     * @param interval The interval in ticks.
+     * @param refresh  The callback, usually updating a few items.
+     * @return The {@link ModalScheduler.Task} to remove the refresh with.
+     */
+    @NotNull
+    public ModalScheduler.Task addRefresh(final long interval, @NotNull final Runnable refresh) {
+        final ModalTicker.Registration registration = new ModalTicker.Registration(this, interval, refresh);
+        refreshes.add(registration);
+        if (!inventory.getViewers().isEmpty()) registration.arm();
+        return registration;
+    }
+
+    /**
+     * Binds a slot to a value, the item is only rendered again when the value changes.
+     * Feed it with {@link SlotBinding#poll(long, Supplier)} or {@link SlotBinding#push(Object)}.
+     *
+     * @param slot     The modal slot.
+     * @param renderer Builds the item for a value.
+     * @param <T>      The type of the bound value.
+     * @return The new {@link SlotBinding}.
+     */
+    @NotNull
+    public <T> SlotBinding<T> bind(final int slot, @NotNull final Function<? super T, ? extends ItemStack> renderer) {
+        validateSlot(slot);
+        return new SlotBinding<>(this, slot, renderer);
+    }
+
+    /**
+     * Binds a slot to a polled value, the supplier runs every interval while the modal is open.
+     * The item is only rendered again when the value changes according to {@link Object#equals(Object)}.
+     *
+     * @param slot     The modal slot.
+     * @param interval The interval in ticks.
+     * @param supplier Supplies the current value.
+     * @param renderer Builds the item for a value.
+     * @param <T>      The type of the bound value.
+     * @return The new {@link SlotBinding}.
+     */
+    @NotNull
+    public <T> SlotBinding<T> bind(
+        final int slot,
+        final long interval,
+        @NotNull final Supplier<? extends T> supplier,
+        @NotNull final Function<? super T, ? extends ItemStack> renderer
+    ) {
+        return this.<T>bind(slot, renderer).poll(interval, supplier);
+    }
+
+    /**
+     * Removes a cancelled refresh.
+     *
+     * @param registration The refresh to remove.
+     */
+    void removeRefresh(@NotNull final ModalTicker.Registration registration) {
+        refreshes.remove(registration);
+    }
+
+    /**
+     * Starts the refreshes, called when a viewer opens the modal.
+     */
+    void armRefreshes() {
+        for (final ModalTicker.Registration registration : refreshes) {
+            registration.arm();
+        }
+    }
+
+    /**
+     * Sets the name the modal's metrics are recorded under, shown by {@code /coreapi stats}.
+     * Modals sharing a name share their metrics.
+     *
+     * @param name The modal name.
+     * @return The modal for easier use when declaring, works like a builder.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public BaseModal setName(@NotNull final String name) {
+        this.name = name;
+        this.stats = null;
+        return this;
+    }
+
+    /**
+     * Gets the name the modal's metrics are recorded under.
+     *
+     * @return The name set with {@link #setName(String)}, or the class name.
+     */
+    @NotNull
+    public String getName() {
+        final String current = name;
+        if (current != null) return current;
+
+        final String simpleName = getClass().getSimpleName();
+        return simpleName.isEmpty() ? getClass().getName() : simpleName;
+    }
+
+    /**
+     * Gets the metrics of the modal.
+     *
+     * @return The {@link ModalStats} of the modal's name.
+     */
+    @NotNull
+    public ModalStats stats() {
+        ModalStats current = stats;
+        if (current == null) stats = current = ModalMetrics.stats(getName());
+        return current;
+    }
+
+    /**
+     * Sets the minimum time between two accepted clicks of the same player anywhere in the modal.
+     * Faster clicks are cancelled before any action runs.
+     *
+     * @param clickCooldown The cooldown in milliseconds, 0 for none.
+     * @return The modal for easier use when declaring, works like a builder.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public BaseModal setClickCooldown(final long clickCooldown) {
+        if (clickCooldown < 0) throw new IllegalArgumentException("Click cooldown can't be negative!");
+        this.clickCooldown = TimeUnit.MILLISECONDS.toNanos(clickCooldown);
+        return this;
+    }
+
+    /**
+     * Gets the minimum time between two accepted clicks of the same player anywhere in the modal.
+     *
+     * @return The cooldown in milliseconds, 0 for none.
+     */
+    public long getClickCooldown() {
+        return TimeUnit.NANOSECONDS.toMillis(clickCooldown);
+    }
+
+    /**
+     * Checks the modal click cooldown of the player.
+     *
+     * @param player The clicking player.
+     * @param now    The click time from {@link System#nanoTime()}.
+     * @return Whether the click may go through.
+     */
+    boolean acceptClick(@NotNull final HumanEntity player, final long now) {
+        return clickCooldown == 0 || clickThrottle.tryClick(player.getUniqueId(), now, clickCooldown);
+    }
+
+    /**
+     * Checks the item click cooldown of the player.
+     *
+     * @param player    The clicking player.
+     * @param modalItem The clicked item.
+     * @param now       The click time from {@link System#nanoTime()}.
+     * @return Whether the click may go through.
+     */
+    boolean acceptItemClick(@NotNull final HumanEntity player, @NotNull final ModalItem modalItem, final long now) {
+        final long cooldown = modalItem.getClickCooldown();
+        return cooldown == 0 || clickThrottle.tryItemClick(player.getUniqueId(), modalItem.getId(), now, TimeUnit.MILLISECONDS.toNanos(cooldown));
+    }
+
+    /**
+     * Forgets the click history of a player that closed the modal.
+     *
+     * @param player The player.
+     */
+    void forgetClicks(@NotNull final HumanEntity player) {
+        clickThrottle.remove(player.getUniqueId());
+    }
+
+    /**
+     * Gets the scope that owns the async work of the modal.
+     *
+     * @return The {@link ModalScope} of this modal.
+     */
+    @NotNull
+    public ModalScope scope() {
+        return scope;
+    }
+
+    /**
+     * Discards the modal, for when it won't be opened again.
+     * Cancels the refreshes and every running and future async work registered to its {@link ModalScope}.
+     */
+    public void discard() {
+        for (final ModalTicker.Registration registration : refreshes) {
+            registration.cancel();
+        }
+
+        animations.clear();
+        scope.discard();
+    }
+
+    /**
+     * Starts the refreshes and marks the modal as viewed, called when a viewer opens the modal.
+     */
+    void onViewerOpen() {
+        tracking.active();
+        armRefreshes();
+    }
+
+    /**
+     * Stops the refreshes and cancels the async work, called when the last viewer closes the modal.
+     */
+    void onLastViewerClose() {
+        for (final ModalTicker.Registration registration : refreshes) {
+            registration.disarm();
+        }
+
+        scope.cancelAll();
+        tracking.idle();
+    }
+
+    /**
+     * Adds the slots, items and actions the modal holds to the footprint.
+     * Runs on the thread asking for the report, so only sizes are read and no live collection is walked.
+     *
+     * @param footprint The footprint of the modal's creation site.
+     */
+    void measure(@NotNull final ModalTracker.Footprint footprint) {
+        footprint.addSlots(inventory.getSize());
+        footprint.addItems(modalItems.size());
+        footprint.addActions(slotActions.size());
+        footprint.addActions(
+            defaultClickAction,
+            defaultTopClickAction,
+            playerInventoryAction,
+            dragAction,
+            closeModalAction,
+            openModalAction,
+            outsideClickAction
+        );
     }
 
     /**
@@ -263,6 +592,7 @@ public abstract class BaseModal implements InventoryHolder {
                 }
 
                 modalItems.put(slot, modalItem);
+                trackAnimation(modalItem);
                 break;
             }
         }
@@ -332,6 +662,16 @@ public abstract class BaseModal implements InventoryHolder {
         this.updating = updating;
     }
 
+    /**
+     * Checks whether or not the modal is updating for a specific viewer.
+     *
+     * @param player The viewer to check.
+     * @return Whether the modal is updating or being reopened for the viewer.
+     */
+    boolean isUpdating(@NotNull final HumanEntity player) {
+        return updating || reopening.contains(player.getUniqueId());
+    }
+
     /**
      * Opens the modal for a {@link HumanEntity}.
      *
@@ -340,9 +680,15 @@ public abstract class BaseModal implements InventoryHolder {
     public void open(@NotNull final HumanEntity player) {
         if (player.isSleeping()) return;
 
-        inventory.clear();
-        populateModal();
-        player.openInventory(inventory);
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.OPEN, player, -1);
+        try {
+            inventory.clear();
+            populateModal();
+            player.openInventory(inventory);
+        } finally {
+            tracer.end(span, this, ModalTracer.Phase.OPEN, null);
+        }
     }
 
     /**
@@ -356,31 +702,48 @@ public abstract class BaseModal implements InventoryHolder {
 
     /**
      * Closes the modal with a {@code 2 tick} delay (to prevent items from being taken from the {@link Inventory}).
+     * Closes are collected by the shared ticker, several closes of the same viewer in the delay are merged into one
+     * and the last call decides whether the close action runs.
      *
      * @param player         The {@link HumanEntity} to close the modal to.
      * @param runCloseAction If should or not run the close action.
      */
     public void close(@NotNull final HumanEntity player, final boolean runCloseAction) {
-        final Runnable task = () -> {
-            this.runCloseAction = runCloseAction;
-            player.closeInventory();
-            this.runCloseAction = true;
-        };
-
-        if (VersionHelper.IS_FOLIA) {
-            if (GET_SCHEDULER_METHOD == null || EXECUTE_METHOD == null) {
-                throw new ModalException("Could not find Folia Scheduler methods.");
-            }
+        final UUID uuid = player.getUniqueId();
+        if (pendingCloses.put(uuid, runCloseAction) != null) return;
 
+        // A close dropped because the viewer left must not block every later close of the same viewer.
+        ModalTicker.get().schedule(() -> {
             try {
-                EXECUTE_METHOD.invoke(GET_SCHEDULER_METHOD.invoke(player), plugin, task, null, 2L);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new ModalException("Could not invoke Folia task.", e);
+                CoreAPI.getScheduler().execute(player, () -> closeNow(player), () -> pendingCloses.remove(uuid));
+            } catch (RuntimeException exception) {
+                pendingCloses.remove(uuid);
+                throw exception;
             }
+        }, 2L);
+    }
+
+    /**
+     * Runs a pending close of a viewer, on the thread that owns it.
+     *
+     * @param player The {@link HumanEntity} to close the modal to.
+     */
+    private void closeNow(@NotNull final HumanEntity player) {
+        final UUID uuid = player.getUniqueId();
+        final Boolean runCloseAction = pendingCloses.remove(uuid);
+        if (runCloseAction == null) return;
+
+        if (runCloseAction) {
+            player.closeInventory();
             return;
         }
 
-        Bukkit.getScheduler().runTaskLater(plugin, task, 2L);
+        silentCloses.add(uuid);
+        try {
+            player.closeInventory();
+        } finally {
+            silentCloses.remove(uuid);
+        }
     }
 
     /**
@@ -402,21 +765,57 @@ public abstract class BaseModal implements InventoryHolder {
     @NotNull
     @Contract("_ -> this")
     public BaseModal updateTitle(@NotNull final Component title) {
-        updating = true;
+        final ModalTitleUpdateEvent event = new ModalTitleUpdateEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.TITLE_UPDATE, null, -1);
+        int viewerCount = 0;
+        event.begin();
+
+        try {
+            stats().recordTitleUpdate();
+
+            // Title and inventory change together, other threads only ever see the old or the new pair.
+            // The new inventory is filled once here, the viewers only switch over to it.
+            final List<HumanEntity> viewers;
+            synchronized (modalContainer) {
+                viewers = new ArrayList<>(inventory.getViewers());
+                modalContainer.title(title); // Update the title.
+                inventory = modalContainer.createInventory(this);
+                render();
+            }
+            viewerCount = viewers.size();
 
-        final List<HumanEntity> viewers = new ArrayList<>(inventory.getViewers());
+            // Each viewer is moved to the new inventory on the thread that owns it, batched per region.
+            CoreAPI.getScheduler().executeEach(viewers, player -> {
+                final Inventory current = inventory;
 
-        modalContainer.title(title); // Update the title.
-        inventory = modalContainer.createInventory(this);
+                // A later title change may have reached this viewer first, it already shows the newest inventory.
+                if (player.isSleeping() || player.getOpenInventory().getTopInventory() == current) return;
 
-        for (final HumanEntity player : viewers) {
-            open(player);
+                reopening.add(player.getUniqueId());
+                try {
+                    player.openInventory(current);
+                } finally {
+                    reopening.remove(player.getUniqueId());
+                }
+            });
+        } finally {
+            event.complete(this, viewerCount);
+            tracer.end(span, this, ModalTracer.Phase.TITLE_UPDATE, null);
         }
 
-        updating = false;
         return this;
     }
 
+    /**
+     * Fills the inventory again with the current contents, without opening it to anyone.
+     * Used when the inventory is recreated, the viewers are moved over to it afterwards.
+     */
+    void render() {
+        inventory.clear();
+        populateModal();
+    }
+
     /**
      * Updates the specified item in the modal at runtime, without creating a new {@link ModalItem}.
      *
@@ -454,6 +853,7 @@ public abstract class BaseModal implements InventoryHolder {
      */
     public void updateItem(final int slot, @NotNull final ModalItem item) {
         modalItems.put(slot, item);
+        trackAnimation(item);
         inventory.setItem(slot, item.getItemStack());
     }
 
@@ -885,13 +1285,75 @@ public abstract class BaseModal implements InventoryHolder {
      * Populates the modal with it's items.
      */
     void populateModal() {
-        for (final Map.Entry<Integer, ModalItem> entry : modalItems.entrySet()) {
-            inventory.setItem(entry.getKey(), entry.getValue().getItemStack());
+        final ModalRenderEvent event = new ModalRenderEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.POPULATE, null, modalItems.size());
+        final long start = System.nanoTime();
+        event.begin();
+
+        try {
+            for (final Map.Entry<Integer, ModalItem> entry : modalItems.entrySet()) {
+                inventory.setItem(entry.getKey(), entry.getValue().getItemStack());
+            }
+        } finally {
+            stats().recordRenderTime(System.nanoTime() - start);
+            event.complete(this, modalItems.size());
+            tracer.end(span, this, ModalTracer.Phase.POPULATE, null);
         }
     }
 
-    boolean shouldRunCloseAction() {
-        return runCloseAction;
+    /**
+     * Writes the current {@link ItemStack} of the item to every slot showing it.
+     *
+     * @param modalItem The item to refresh.
+     */
+    void refreshItem(@NotNull final ModalItem modalItem) {
+        forEachShownItem((slot, item) -> {
+            if (item == modalItem) inventory.setItem(slot, modalItem.getItemStack());
+        });
+    }
+
+    /**
+     * Runs the action for every item the modal currently shows, with its slot.
+     *
+     * @param action The action to run.
+     */
+    void forEachShownItem(@NotNull final BiConsumer<Integer, ModalItem> action) {
+        modalItems.forEach(action);
+    }
+
+    /**
+     * Starts advancing the animation of the item, once per animation.
+     *
+     * @param modalItem The item that was added to the modal.
+     */
+    void trackAnimation(@NotNull final ModalItem modalItem) {
+        if (!(modalItem instanceof AnimatedModalItem)) return;
+
+        final ModalAnimation animation = ((AnimatedModalItem) modalItem).getAnimation();
+        if (animation.size() < 2) return;
+
+        animations.computeIfAbsent(animation, it -> addRefresh(it.getInterval(), () -> animate(it)));
+    }
+
+    /**
+     * Writes the current frame to every slot showing the animation, and nothing else.
+     *
+     * @param animation The animation to advance.
+     */
+    private void animate(@NotNull final ModalAnimation animation) {
+        final ItemStack frame = animation.currentFrame();
+
+        forEachShownItem((slot, item) -> {
+            if (item instanceof AnimatedModalItem && ((AnimatedModalItem) item).isAnimating()
+                && ((AnimatedModalItem) item).getAnimation() == animation) {
+                inventory.setItem(slot, frame);
+            }
+        });
+    }
+
+    boolean shouldRunCloseAction(@NotNull final HumanEntity player) {
+        return !silentCloses.contains(player.getUniqueId());
     }
 
     boolean shouldRunOpenAction() {
@@ -982,8 +1444,14 @@ public abstract class BaseModal implements InventoryHolder {
                 event.getClick(),
                 event.getAction()
             );
-            Component newTitle = ((DynamicTitle.InteractionDynamicTitle) dynamicTitle).update(state);
-            // No need to call full title update as the component is updated internally
+            final ModalTracer tracer = ModalTracing.current();
+            final Object span = tracer.begin(this, ModalTracer.Phase.TITLE_UPDATE, event.getWhoClicked(), slot);
+            try {
+                Component newTitle = ((DynamicTitle.InteractionDynamicTitle) dynamicTitle).update(state);
+                // No need to call full title update as the component is updated internally
+            } finally {
+                tracer.end(span, this, ModalTracer.Phase.TITLE_UPDATE, null);
+            }
         }
     }
     
@@ -0,0 +1,77 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per player click timestamps of a modal, used to drop clicks that come in faster than the configured cooldowns
+ * A player's clicks are always handled by the thread that owns the player, so each entry is only touched by one thread
+ */
+final class ClickThrottle {
+
+    private static final int LAST_CLICK = 0;
+    private static final int LAST_ITEM = 1;
+    private static final int LAST_ITEM_CLICK = 2;
+
+    // Three longs per player: last accepted click, id of the last clicked item and when that item was last accepted.
+    private final Map<UUID, long[]> clicks = new ConcurrentHashMap<>();
+
+    /**
+     * Checks the modal wide cooldown and records the click if it passes
+     *
+     * @param player   The clicking player
+     * @param now      The click time in nanoseconds
+     * @param cooldown The cooldown in nanoseconds
+     * @return Whether the click is accepted
+     */
+    boolean tryClick(@NotNull final UUID player, final long now, final long cooldown) {
+        final long[] state = state(player);
+        if (state[LAST_CLICK] != 0 && now - state[LAST_CLICK] < cooldown) return false;
+
+        state[LAST_CLICK] = now;
+        return true;
+    }
+
+    /**
+     * Checks the cooldown of a single item and records the click if it passes
+     *
+     * @param player   The clicking player
+     * @param itemId   The id of the clicked item
+     * @param now      The click time in nanoseconds
+     * @param cooldown The cooldown in nanoseconds
+     * @return Whether the click is accepted
+     */
+    boolean tryItemClick(@NotNull final UUID player, final long itemId, final long now, final long cooldown) {
+        final long[] state = state(player);
+        if (state[LAST_ITEM] == itemId && now - state[LAST_ITEM_CLICK] < cooldown) return false;
+
+        state[LAST_ITEM] = itemId;
+        state[LAST_ITEM_CLICK] = now;
+        return true;
+    }
+
+    /**
+     * Forgets the player, called when they close the modal
+     *
+     * @param player The player
+     */
+    void remove(@NotNull final UUID player) {
+        clicks.remove(player);
+    }
+
+    @NotNull
+    private long[] state(@NotNull final UUID player) {
+        return clicks.computeIfAbsent(player, uuid -> new long[3]);
+    }
+}
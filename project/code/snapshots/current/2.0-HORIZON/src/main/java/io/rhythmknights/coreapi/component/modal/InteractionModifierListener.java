@@ -47,6 +47,7 @@ public final class InteractionModifierListener implements Listener {
         if (modal.allInteractionsDisabled()) {
             event.setCancelled(true);
             event.setResult(Event.Result.DENY);
+            modal.stats().recordCancelledInteraction();
             return;
         }
 
@@ -54,6 +55,7 @@ public final class InteractionModifierListener implements Listener {
         if ((!modal.canPlaceItems() && isPlaceItemEvent(event)) || (!modal.canTakeItems() && isTakeItemEvent(event)) || (!modal.canSwapItems() && isSwapItemEvent(event)) || (!modal.canDropItems() && isDropItemEvent(event)) || (!modal.allowsOtherActions() && isOtherEvent(event))) {
             event.setCancelled(true);
             event.setResult(Event.Result.DENY);
+            modal.stats().recordCancelledInteraction();
         }
     }
 
@@ -74,6 +76,7 @@ public final class InteractionModifierListener implements Listener {
         if (modal.allInteractionsDisabled()) {
             event.setCancelled(true);
             event.setResult(Event.Result.DENY);
+            modal.stats().recordCancelledInteraction();
             return;
         }
 
@@ -83,6 +86,7 @@ public final class InteractionModifierListener implements Listener {
         // cancel the interaction
         event.setCancelled(true);
         event.setResult(Event.Result.DENY);
+        modal.stats().recordCancelledInteraction();
     }
 
     /**
@@ -0,0 +1,113 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.component.utility.ItemNBT;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Immutable set of animation frames, built once and shared by every {@link AnimatedModalItem} and modal that uses it
+ * All frames carry the same modal item id, so a click on any frame is recognised
+ * The frame on screen is picked from the shared ticker, so every modal shows the same animation in step
+ */
+public final class ModalAnimation {
+
+    private final long id = ModalItem.nextId();
+    private final ItemStack[] frames;
+    private final long interval;
+
+    private ModalAnimation(@NotNull final ItemStack[] frames, final long interval) {
+        Preconditions.checkArgument(frames.length > 0, "An animation needs at least one frame!");
+        Preconditions.checkArgument(interval > 0, "The frame interval must be at least 1 tick!");
+
+        this.frames = new ItemStack[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            Preconditions.checkNotNull(frames[i], "Animation frames cannot be null!");
+            final ItemStack frame = frames[i].clone();
+            this.frames[i] = frame.getType() == Material.AIR ? frame : ItemNBT.setLong(frame, ModalItem.ID_KEY, id);
+        }
+
+        this.interval = interval;
+    }
+
+    /**
+     * Creates an animation, the frames are copied and tagged once
+     *
+     * @param interval The amount of ticks each frame is shown
+     * @param frames   The frames in order
+     * @return The new {@link ModalAnimation}
+     */
+    @NotNull
+    public static ModalAnimation of(final long interval, @NotNull final ItemStack... frames) {
+        return new ModalAnimation(frames, interval);
+    }
+
+    /**
+     * Creates an animation, the frames are copied and tagged once
+     *
+     * @param interval The amount of ticks each frame is shown
+     * @param frames   The frames in order
+     * @return The new {@link ModalAnimation}
+     */
+    @NotNull
+    public static ModalAnimation of(final long interval, @NotNull final List<@NotNull ItemStack> frames) {
+        return new ModalAnimation(frames.toArray(new ItemStack[0]), interval);
+    }
+
+    /**
+     * Gets the amount of ticks each frame is shown
+     *
+     * @return The frame interval
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Gets the amount of frames
+     *
+     * @return The frame count
+     */
+    public int size() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the frame shown at the given tick
+     * The returned {@link ItemStack} is shared and must not be modified
+     *
+     * @param tick The tick of the shared ticker
+     * @return The frame
+     */
+    @NotNull
+    public ItemStack frameAt(final long tick) {
+        return frames[(int) ((tick / interval) % frames.length)];
+    }
+
+    /**
+     * Gets the frame shown right now
+     * The returned {@link ItemStack} is shared and must not be modified
+     *
+     * @return The current frame
+     */
+    @NotNull
+    public ItemStack currentFrame() {
+        return frameAt(ModalTicker.get().getTick());
+    }
+
+    long getId() {
+        return id;
+    }
+}
@@ -19,7 +19,7 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ModalItem represents the {@link ItemStack} on the {@link Inventory}
@@ -27,12 +27,19 @@ import java.util.UUID;
 @SuppressWarnings("unused")
 public class ModalItem {
 
-    // Random UUID to identify the item when clicking
-    private final UUID uuid = UUID.randomUUID();
+    // NBT key holding the item id.
+    static final String ID_KEY = "cf-modal-id";
+    // Source of the process unique item ids, 0 is never used so it can mean "untagged".
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    // Id to identify the item when clicking
+    private final long id;
     // Action to do when clicking on the item
     private ModalAction<InventoryClickEvent> action;
     // The ItemStack of the ModalItem
     private ItemStack itemStack;
+    // Minimum time between two accepted clicks of the same player on this item, 0 for none
+    private long clickCooldown;
 
     /**
      * Main constructor of the ModalItem
@@ -43,12 +50,26 @@ public class ModalItem {
     public ModalItem(@NotNull final ItemStack itemStack, @Nullable final ModalAction<@NotNull InventoryClickEvent> action) {
         Preconditions.checkNotNull(itemStack, "The ItemStack for the Modal Item cannot be null!");
 
+        this.id = nextId();
         this.action = action;
 
-        // Sets the UUID to an NBT tag to be identifiable later
+        // Sets the id to an NBT tag to be identifiable later
         setItemStack(itemStack);
     }
 
+    /**
+     * Constructor for items whose {@link ItemStack} is already tagged with a shared id
+     *
+     * @param id        The id the {@link ItemStack} is tagged with
+     * @param itemStack The tagged {@link ItemStack}
+     * @param action    The {@link ModalAction} to run when clicking on the Item
+     */
+    ModalItem(final long id, @NotNull final ItemStack itemStack, @Nullable final ModalAction<@NotNull InventoryClickEvent> action) {
+        this.id = id;
+        this.action = action;
+        this.itemStack = itemStack;
+    }
+
     /**
      * Secondary constructor with no action
      *
@@ -95,7 +116,7 @@ public class ModalItem {
     public void setItemStack(@NotNull final ItemStack itemStack) {
         Preconditions.checkNotNull(itemStack, "The ItemStack for the Modal Item cannot be null!");
         if (itemStack.getType() != Material.AIR) {
-            this.itemStack = ItemNBT.setString(itemStack.clone(), "cf-modal", uuid.toString());
+            this.itemStack = ItemNBT.setLong(itemStack.clone(), ID_KEY, id);
         } else {
             this.itemStack = itemStack.clone();
         }
@@ -118,9 +139,36 @@ public class ModalItem {
     }
 
     /**
-     * Gets the random {@link UUID} that was generated when the ModalItem was made
+     * Gets the minimum time between two accepted clicks of the same player on this item
+     *
+     * @return The cooldown in milliseconds, 0 for none
+     */
+    public long getClickCooldown() {
+        return clickCooldown;
+    }
+
+    /**
+     * Sets the minimum time between two accepted clicks of the same player on this item
+     * Faster clicks are cancelled before the action runs
+     *
+     * @param clickCooldown The cooldown in milliseconds, 0 for none
+     */
+    public void setClickCooldown(final long clickCooldown) {
+        Preconditions.checkArgument(clickCooldown >= 0, "Click cooldown can't be negative!");
+        this.clickCooldown = clickCooldown;
+    }
+
+    /**
+     * Gets the process unique id that was assigned when the ModalItem was made
+     */
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Hands out the next process unique id
      */
-    @NotNull UUID getUuid() {
-        return uuid;
+    static long nextId() {
+        return NEXT_ID.incrementAndGet();
     }
 }
@@ -8,6 +8,15 @@
 
 package io.rhythmknights.coreapi.component.modal;
 
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.metric.ClickHeatmap;
+import io.rhythmknights.coreapi.component.metric.ModalStats;
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+import io.rhythmknights.coreapi.component.metric.PrometheusExporter;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalClickEvent;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalCloseEvent;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalOpenEvent;
 import io.rhythmknights.coreapi.component.module.ModalAction;
 import io.rhythmknights.coreapi.component.utility.ItemNBT;
 
@@ -18,6 +27,7 @@ import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,11 +44,45 @@ public final class ModalListener implements Listener {
 
         // Modal
         final BaseModal modal = (BaseModal) event.getInventory().getHolder();
+        final ModalStats stats = modal.stats();
+        final ModalClickEvent recording = new ModalClickEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(modal, ModalTracer.Phase.CLICK, event.getWhoClicked(), event.getRawSlot());
+        final long start = System.nanoTime();
+        recording.begin();
+
+        stats.recordClick();
+        try {
+            handleClick(event, modal, start);
+        } finally {
+            stats.recordHandlerTime(System.nanoTime() - start);
+            recording.complete(modal, event);
+            tracer.end(span, modal, ModalTracer.Phase.CLICK, null);
+        }
+    }
+
+    private void handleClick(final InventoryClickEvent event, final BaseModal modal, final long start) {
+        // Drops clicks faster than the modal cooldown before anything is looked up
+        if (!modal.acceptClick(event.getWhoClicked(), start)) {
+            event.setCancelled(true);
+            modal.stats().recordCancelledInteraction();
+            return;
+        }
+
+        // Resolves the clicked item up front, so repeated clicks on an item with its own cooldown are dropped before any action runs
+        final ModalItem modalItem = getClickedItem(event, modal);
+        if (modalItem != null && !modal.acceptItemClick(event.getWhoClicked(), modalItem, start)) {
+            event.setCancelled(true);
+            modal.stats().recordCancelledInteraction();
+            return;
+        }
+
+        ClickHeatmap.record(modal, event.getRawSlot(), event.getClick());
 
         // Executes the outside click action
         final ModalAction<InventoryClickEvent> outsideClickAction = modal.getOutsideClickAction();
         if (outsideClickAction != null && event.getClickedInventory() == null) {
-            outsideClickAction.execute(event);
+            ActionWatchdog.execute(modal, "outside", outsideClickAction, event, -1, null);
             return;
         }
 
@@ -47,38 +91,23 @@ public final class ModalListener implements Listener {
         // Default click action and checks weather or not there is a default action and executes it
         final ModalAction<InventoryClickEvent> defaultTopClick = modal.getDefaultTopClickAction();
         if (defaultTopClick != null && event.getClickedInventory().getType() != InventoryType.PLAYER) {
-            defaultTopClick.execute(event);
+            ActionWatchdog.execute(modal, "top", defaultTopClick, event, event.getSlot(), null);
         }
 
         // Default click action and checks weather or not there is a default action and executes it
         final ModalAction<InventoryClickEvent> playerInventoryClick = modal.getPlayerInventoryAction();
         if (playerInventoryClick != null && event.getClickedInventory().getType() == InventoryType.PLAYER) {
-            playerInventoryClick.execute(event);
+            ActionWatchdog.execute(modal, "player-inventory", playerInventoryClick, event, event.getSlot(), null);
         }
 
         // Default click action and checks weather or not there is a default action and executes it
         final ModalAction<InventoryClickEvent> defaultClick = modal.getDefaultClickAction();
-        if (defaultClick != null) defaultClick.execute(event);
+        if (defaultClick != null) ActionWatchdog.execute(modal, "default", defaultClick, event, event.getSlot(), null);
 
         // Slot action and checks weather or not there is a slot action and executes it
         final ModalAction<InventoryClickEvent> slotAction = modal.getSlotAction(event.getSlot());
         if (slotAction != null && event.getClickedInventory().getType() != InventoryType.PLAYER) {
-            slotAction.execute(event);
-        }
-
-        ModalItem modalItem;
-
-        // Checks whether it's a paginated modal or not
-        if (modal instanceof PaginatedModal) {
-            final PaginatedModal paginatedModal = (PaginatedModal) modal;
-
-            // Gets the modal item from the added items or the page items
-            modalItem = paginatedModal.getModalItem(event.getSlot());
-            if (modalItem == null) modalItem = paginatedModal.getPageItem(event.getSlot());
-
-        } else {
-            // The clicked Modal Item
-            modalItem = modal.getModalItem(event.getSlot());
+            ActionWatchdog.execute(modal, "slot", slotAction, event, event.getSlot(), null);
         }
 
         if (!isModalItem(event.getCurrentItem(), modalItem)) return;
@@ -86,7 +115,7 @@ public final class ModalListener implements Listener {
         // Executes the action of the item
         final ModalAction<InventoryClickEvent> itemAction = modalItem.getAction();
         if (itemAction != null) {
-            itemAction.execute(event);
+            ActionWatchdog.execute(modal, "item", itemAction, event, event.getSlot(), modalItem);
 
             // Add this for title updates on item clicks
             if (modal.shouldUpdateTitleOnItemClick()) {
@@ -109,10 +138,21 @@ public final class ModalListener implements Listener {
 
         // Modal
         final BaseModal modal = (BaseModal) event.getInventory().getHolder();
+        final ModalStats stats = modal.stats();
+        final long start = System.nanoTime();
 
+        stats.recordDrag();
+        try {
+            handleDrag(event, modal);
+        } finally {
+            stats.recordHandlerTime(System.nanoTime() - start);
+        }
+    }
+
+    private void handleDrag(final InventoryDragEvent event, final BaseModal modal) {
         // Default click action and checks weather or not there is a default action and executes it
         final ModalAction<InventoryDragEvent> dragAction = modal.getDragAction();
-        if (dragAction != null) dragAction.execute(event);
+        if (dragAction != null) ActionWatchdog.execute(modal, "drag", dragAction, event, -1, null);
     }
 
     /**
@@ -126,12 +166,36 @@ public final class ModalListener implements Listener {
 
         // Modal
         final BaseModal modal = (BaseModal) event.getInventory().getHolder();
+        final ModalStats stats = modal.stats();
+        final ModalCloseEvent recording = new ModalCloseEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(modal, ModalTracer.Phase.CLOSE, event.getPlayer(), -1);
+        final long start = System.nanoTime();
+        recording.begin();
+
+        stats.recordClose();
+        try {
+            handleClose(event, modal);
+        } finally {
+            stats.recordHandlerTime(System.nanoTime() - start);
+            recording.complete(modal, event.getPlayer());
+            tracer.end(span, modal, ModalTracer.Phase.CLOSE, null);
+        }
+    }
 
+    private void handleClose(final InventoryCloseEvent event, final BaseModal modal) {
         // The Modal action for closing
         final ModalAction<InventoryCloseEvent> closeAction = modal.getCloseModalAction();
 
         // Checks if there is or not an action set and executes it
-        if (closeAction != null && !modal.isUpdating() && modal.shouldRunCloseAction()) closeAction.execute(event);
+        if (closeAction != null && !modal.isUpdating(event.getPlayer()) && modal.shouldRunCloseAction(event.getPlayer())) {
+            ActionWatchdog.execute(modal, "close", closeAction, event, -1, null);
+        }
+
+        if (!modal.isUpdating(event.getPlayer())) modal.forgetClicks(event.getPlayer());
+
+        // The closing player is still a viewer during the event, stop the refreshes and async work if nobody else is left
+        if (!modal.isUpdating(event.getPlayer()) && event.getInventory().getViewers().size() <= 1) modal.onLastViewerClose();
     }
 
     /**
@@ -145,12 +209,67 @@ public final class ModalListener implements Listener {
 
         // Modal
         final BaseModal modal = (BaseModal) event.getInventory().getHolder();
+        final ModalStats stats = modal.stats();
+        final ModalOpenEvent recording = new ModalOpenEvent();
+        final long start = System.nanoTime();
+        recording.begin();
+
+        stats.recordOpen();
+        try {
+            handleOpen(event, modal);
+        } finally {
+            stats.recordHandlerTime(System.nanoTime() - start);
+            recording.complete(modal, event.getPlayer());
+        }
+    }
 
+    private void handleOpen(final InventoryOpenEvent event, final BaseModal modal) {
         // The Modal action for opening
         final ModalAction<InventoryOpenEvent> openAction = modal.getOpenModalAction();
 
         // Checks if there is or not an action set and executes it
-        if (openAction != null && !modal.isUpdating()) openAction.execute(event);
+        if (openAction != null && !modal.isUpdating(event.getPlayer())) ActionWatchdog.execute(modal, "open", openAction, event, -1, null);
+
+        // Starts the refreshes, if they're not already running for another viewer
+        if (!event.isCancelled()) modal.onViewerOpen();
+    }
+
+    /**
+     * Stops the watchdog sampler, the metrics exporter and the heatmap flushing when the owning plugin disables
+     *
+     * @param event The PluginDisableEvent
+     */
+    @EventHandler
+    public void onPluginDisable(final PluginDisableEvent event) {
+        if (event.getPlugin() != CoreAPI.getPlugin()) return;
+
+        ActionWatchdog.stop();
+        PrometheusExporter.stop();
+        ClickHeatmap.stopFlushing();
+    }
+
+    /**
+     * Gets the {@link ModalItem} in the clicked slot of the modal
+     *
+     * @param event The InventoryClickEvent
+     * @param modal The clicked modal
+     * @return The item in the slot, or null if the click wasn't on the modal's own inventory
+     */
+    @Nullable
+    private ModalItem getClickedItem(final InventoryClickEvent event, final BaseModal modal) {
+        if (event.getClickedInventory() == null || event.getClickedInventory().getType() == InventoryType.PLAYER) return null;
+
+        // Checks whether it's a paginated modal or not
+        if (modal instanceof PaginatedModal) {
+            final PaginatedModal paginatedModal = (PaginatedModal) modal;
+
+            // Gets the modal item from the added items or the page items
+            final ModalItem modalItem = paginatedModal.getModalItem(event.getSlot());
+            return modalItem != null ? modalItem : paginatedModal.getPageItem(event.getSlot());
+        }
+
+        // The clicked Modal Item
+        return modal.getModalItem(event.getSlot());
     }
 
     /**
@@ -163,8 +282,7 @@ public final class ModalListener implements Listener {
     private boolean isModalItem(@Nullable final ItemStack currentItem, @Nullable final ModalItem modalItem) {
         if (currentItem == null || modalItem == null) return false;
         // Checks whether the Item is truly a Modal Item
-        final String nbt = ItemNBT.getString(currentItem, "cf-modal");
-        if (nbt == null) return false;
-        return nbt.equals(modalItem.getUuid().toString());
+        final long id = ItemNBT.getLong(currentItem, ModalItem.ID_KEY);
+        return id != 0 && id == modalItem.getId();
     }
 }
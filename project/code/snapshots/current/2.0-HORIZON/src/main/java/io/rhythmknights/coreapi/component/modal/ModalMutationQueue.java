@@ -0,0 +1,232 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free queue of changes to a {@link BaseModal} that can be filled from any thread
+ * The queued changes are applied in one batch on the thread that owns the modal's viewers
+ * Writes to the same slot collapse so only the last one touches the inventory
+ * {@link #run(Consumer)} and {@link #addItem(ModalItem...)} act as barriers, nothing collapses across them
+ */
+public final class ModalMutationQueue {
+
+    private static final int SET = 0;
+    private static final int UPDATE = 1;
+    private static final int REMOVE = 2;
+    private static final int ADD = 3;
+    private static final int RUN = 4;
+
+    private final BaseModal modal;
+    private final Queue<Mutation> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    ModalMutationQueue(@NotNull final BaseModal modal) {
+        this.modal = modal;
+    }
+
+    /**
+     * Queues {@link BaseModal#updateItem(int, ModalItem)}
+     *
+     * @param slot The slot to set
+     * @param item The new {@link ModalItem}
+     * @return The queue, for chaining
+     */
+    @NotNull
+    public ModalMutationQueue setItem(final int slot, @NotNull final ModalItem item) {
+        return enqueue(new Mutation(SET, slot, item));
+    }
+
+    /**
+     * Queues {@link BaseModal#updateItem(int, ItemStack)}
+     *
+     * @param slot      The slot to update
+     * @param itemStack The new {@link ItemStack}
+     * @return The queue, for chaining
+     */
+    @NotNull
+    public ModalMutationQueue updateItem(final int slot, @NotNull final ItemStack itemStack) {
+        return enqueue(new Mutation(UPDATE, slot, itemStack));
+    }
+
+    /**
+     * Queues {@link BaseModal#removeItem(int)}
+     *
+     * @param slot The slot to clear
+     * @return The queue, for chaining
+     */
+    @NotNull
+    public ModalMutationQueue removeItem(final int slot) {
+        return enqueue(new Mutation(REMOVE, slot, null));
+    }
+
+    /**
+     * Queues {@link BaseModal#addItem(ModalItem...)}, which adds to the page on a {@link PaginatedModal}
+     *
+     * @param items The items to add
+     * @return The queue, for chaining
+     */
+    @NotNull
+    public ModalMutationQueue addItem(@NotNull final ModalItem... items) {
+        return enqueue(new Mutation(ADD, -1, items.clone()));
+    }
+
+    /**
+     * Queues any other change to the modal, run in order with the rest of the batch
+     *
+     * @param action The change to run on the owning thread
+     * @return The queue, for chaining
+     */
+    @NotNull
+    public ModalMutationQueue run(@NotNull final Consumer<@NotNull BaseModal> action) {
+        return enqueue(new Mutation(RUN, -1, action));
+    }
+
+    /**
+     * Gets the amount of changes waiting to be applied
+     *
+     * @return The amount of queued changes
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    @NotNull
+    private ModalMutationQueue enqueue(@NotNull final Mutation mutation) {
+        pending.add(mutation);
+
+        // Only the producer that flips the flag schedules a drain, the rest ride along in the same batch.
+        if (!scheduled.compareAndSet(false, true)) return this;
+
+        // A drain that never runs has to release the flag, or nothing queued afterwards would be applied.
+        // What is already pending stays queued and goes out with the drain the next change arms.
+        try {
+            modal.runOnOwner(this::drain, () -> scheduled.set(false));
+        } catch (RuntimeException exception) {
+            scheduled.set(false);
+            throw exception;
+        }
+        return this;
+    }
+
+    /**
+     * Applies everything queued so far, on the owning thread
+     */
+    private void drain() {
+        do {
+            final List<Mutation> batch = new ArrayList<>();
+            Mutation mutation;
+            while ((mutation = pending.poll()) != null) {
+                batch.add(mutation);
+            }
+
+            try {
+                apply(collapse(batch));
+            } finally {
+                scheduled.set(false);
+            }
+
+            // Something may have been queued after the poll but before the flag was cleared.
+        } while (!pending.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Drops the writes that a later write to the same slot makes pointless
+     * A set or remove hides every earlier write to its slot, an item stack update only hides earlier item stack updates
+     * since it changes the {@link ModalItem} that is in the slot at the time
+     *
+     * @param batch The queued changes in order
+     * @return The changes that still matter, in order
+     */
+    @NotNull
+    private static Mutation[] collapse(@NotNull final List<Mutation> batch) {
+        final Mutation[] kept = new Mutation[batch.size()];
+        final Map<Integer, Integer> latest = new HashMap<>();
+        int index = kept.length;
+
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            final Mutation mutation = batch.get(i);
+
+            if (mutation.type == ADD || mutation.type == RUN) {
+                latest.clear();
+                kept[--index] = mutation;
+                continue;
+            }
+
+            final Integer later = latest.get(mutation.slot);
+            if (later != null && (later != UPDATE || mutation.type == UPDATE)) continue;
+
+            latest.put(mutation.slot, mutation.type);
+            kept[--index] = mutation;
+        }
+
+        final Mutation[] result = new Mutation[kept.length - index];
+        System.arraycopy(kept, index, result, 0, result.length);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(@NotNull final Mutation[] mutations) {
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(modal, ModalTracer.Phase.ITEM_WRITE, null, mutations.length);
+        try {
+            for (final Mutation mutation : mutations) {
+                switch (mutation.type) {
+                    case SET:
+                        modal.updateItem(mutation.slot, (ModalItem) mutation.value);
+                        break;
+                    case UPDATE:
+                        modal.updateItem(mutation.slot, (ItemStack) mutation.value);
+                        break;
+                    case REMOVE:
+                        modal.removeItem(mutation.slot);
+                        break;
+                    case ADD:
+                        modal.addItem((ModalItem[]) mutation.value);
+                        break;
+                    default:
+                        ((Consumer<BaseModal>) mutation.value).accept(modal);
+                        break;
+                }
+            }
+        } finally {
+            tracer.end(span, modal, ModalTracer.Phase.ITEM_WRITE, null);
+        }
+    }
+
+    /**
+     * A single queued change
+     */
+    private static final class Mutation {
+        private final int type;
+        private final int slot;
+        private final Object value;
+
+        private Mutation(final int type, final int slot, @Nullable final Object value) {
+            this.type = type;
+            this.slot = slot;
+            this.value = value;
+        }
+    }
+}
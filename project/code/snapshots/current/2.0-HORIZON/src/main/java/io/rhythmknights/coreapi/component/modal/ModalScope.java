@@ -0,0 +1,105 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * Owns the async work started for a modal, such as item patches, bound futures and {@link io.rhythmknights.coreapi.component.module.AsyncModalAction}s
+ * Everything registered is cancelled when the last viewer closes the modal, so nothing keeps loading for a menu no one sees
+ * Once the modal is discarded, work registered afterwards is cancelled right away
+ */
+public final class ModalScope {
+
+    private final Set<Future<?>> futures = ConcurrentHashMap.newKeySet();
+    private volatile boolean discarded;
+
+    ModalScope() {}
+
+    /**
+     * Registers a future to be cancelled with the scope
+     * A {@link CompletableFuture} leaves the scope by itself once done, other futures should be passed to {@link #unregister(Future)}
+     *
+     * @param future The future to register
+     * @param <F>    The future type
+     * @return The same future
+     */
+    @NotNull
+    public <F extends Future<?>> F register(@NotNull final F future) {
+        if (future.isDone()) return future;
+
+        futures.add(future);
+        if (future instanceof CompletableFuture) {
+            ((CompletableFuture<?>) future).whenComplete((result, throwable) -> futures.remove(future));
+        }
+
+        // A discard may have run between the check and the add, cancel it here so it can't slip through.
+        if (discarded) cancel(future);
+        return future;
+    }
+
+    /**
+     * Removes a finished future from the scope
+     *
+     * @param future The future to remove
+     */
+    public void unregister(@NotNull final Future<?> future) {
+        futures.remove(future);
+    }
+
+    /**
+     * Gets the amount of futures that are still running
+     *
+     * @return The amount of registered futures
+     */
+    public int size() {
+        return futures.size();
+    }
+
+    /**
+     * Checks whether the modal was discarded
+     *
+     * @return Whether the scope cancels everything registered to it
+     */
+    public boolean isDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Cancels every registered future, the scope stays usable for the next time the modal is opened
+     */
+    void cancelAll() {
+        final List<Future<?>> running = new ArrayList<>(futures);
+        futures.removeAll(running);
+
+        for (final Future<?> future : running) {
+            cancel(future);
+        }
+    }
+
+    /**
+     * Cancels every registered future and everything registered from now on
+     */
+    void discard() {
+        discarded = true;
+        cancelAll();
+    }
+
+    private void cancel(@NotNull final Future<?> future) {
+        futures.remove(future);
+        future.cancel(true);
+    }
+}
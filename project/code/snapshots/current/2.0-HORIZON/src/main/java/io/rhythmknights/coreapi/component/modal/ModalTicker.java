@@ -0,0 +1,167 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+import io.rhythmknights.coreapi.component.scheduler.TimerWheel;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * The one repeating task that drives every modal refresh
+ * Refreshes sit in a {@link TimerWheel} while their modal is open and are taken out when the last viewer closes it
+ * The task itself only runs while something is scheduled
+ */
+final class ModalTicker {
+
+    private static final ModalTicker INSTANCE = new ModalTicker();
+
+    // A bucket per tick for up to 25.6 seconds, longer intervals go around the wheel more than once.
+    private final TimerWheel<Runnable> wheel = new TimerWheel<>(512);
+    private ModalScheduler.Task task;
+
+    private ModalTicker() {}
+
+    @NotNull
+    static ModalTicker get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the current tick, shared by every modal so animations stay in step
+     *
+     * @return The amount of ticks the ticker has run
+     */
+    long getTick() {
+        return wheel.getTick();
+    }
+
+    /**
+     * Gets the amount of timeouts in the wheel
+     *
+     * @return The amount of scheduled refreshes
+     */
+    int size() {
+        return wheel.size();
+    }
+
+    /**
+     * Runs the runnable once after the delay, on the global thread
+     *
+     * @param runnable The runnable
+     * @param delay    The delay in ticks
+     * @return The {@link ModalScheduler.Task} to cancel it with
+     */
+    @NotNull
+    ModalScheduler.Task schedule(@NotNull final Runnable runnable, final long delay) {
+        final ModalScheduler.Task timeout = wheel.schedule(runnable, delay);
+
+        synchronized (this) {
+            if (task == null) task = CoreAPI.getScheduler().runTimer(this::tick, 1L, 1L);
+        }
+
+        return timeout;
+    }
+
+    private void tick() {
+        wheel.advance(ModalTicker::run);
+
+        synchronized (this) {
+            if (wheel.size() == 0 && task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+    }
+
+    /**
+     * Runs a timeout, a failing one is logged so it can't hold up the rest of the tick
+     *
+     * @param runnable The runnable that expired
+     */
+    private static void run(@NotNull final Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException exception) {
+            CoreAPI.getPlugin().getLogger().log(Level.SEVERE, "A modal ticker task failed", exception);
+        }
+    }
+
+    /**
+     * A refresh callback of a modal, armed while the modal is open
+     */
+    static final class Registration implements ModalScheduler.Task {
+        private final BaseModal modal;
+        private final long interval;
+        private final Runnable refresh;
+
+        private final AtomicBoolean armed = new AtomicBoolean();
+        // Bumped on every arm so a timeout from a previous arm can't fire next to the current one.
+        private final AtomicInteger generation = new AtomicInteger();
+        private volatile ModalScheduler.Task timeout;
+        private volatile boolean cancelled;
+
+        Registration(@NotNull final BaseModal modal, final long interval, @NotNull final Runnable refresh) {
+            this.modal = modal;
+            this.interval = Math.max(1L, interval);
+            this.refresh = refresh;
+        }
+
+        /**
+         * Puts the refresh into the wheel, if it's not already there
+         */
+        void arm() {
+            if (cancelled || !armed.compareAndSet(false, true)) return;
+            schedule(generation.incrementAndGet());
+        }
+
+        /**
+         * Takes the refresh out of the wheel until it's armed again
+         */
+        void disarm() {
+            if (!armed.compareAndSet(true, false)) return;
+
+            final ModalScheduler.Task current = timeout;
+            if (current != null) current.cancel();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            disarm();
+            modal.removeRefresh(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void schedule(final int armedGeneration) {
+            timeout = INSTANCE.schedule(() -> fire(armedGeneration), interval);
+        }
+
+        private void fire(final int armedGeneration) {
+            if (!armed.get() || generation.get() != armedGeneration) return;
+
+            // Modals without viewers are skipped but stay in the wheel, a title change briefly leaves the inventory empty.
+            // A refresh that throws is still scheduled again, otherwise it would stop for good while staying armed.
+            try {
+                if (!modal.getInventory().getViewers().isEmpty()) modal.runOnOwner(refresh);
+            } finally {
+                schedule(armedGeneration);
+            }
+        }
+    }
+}
@@ -0,0 +1,430 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Registry of every live modal, held weakly and grouped by the code that created it
+ * Reports how many modals each creation site keeps alive with a rough size estimate,
+ * and warns about modals without viewers that stay reachable, usually captured by an action or a cache
+ */
+public final class ModalTracker {
+
+    // Rough shallow sizes, only meant to compare sites, not to match a heap dump.
+    private static final long MODAL_BYTES = 1_024;
+    private static final long SLOT_BYTES = 16;
+    private static final long ITEM_BYTES = 64;
+    private static final long STACK_BYTES = 256;
+    private static final long ACTION_BYTES = 32;
+
+    private static final String API_PACKAGE = "io.rhythmknights.coreapi.";
+    private static final String UNKNOWN_SITE = "unknown";
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Duration CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private static final ReferenceQueue<BaseModal> QUEUE = new ReferenceQueue<>();
+    private static final Set<Handle> HANDLES = ConcurrentHashMap.newKeySet();
+
+    private static volatile boolean captureSites = true;
+    private static volatile long leakThresholdNanos = TimeUnit.MINUTES.toNanos(5);
+    private static ModalScheduler.Task checkTask;
+
+    private ModalTracker() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Sets whether the creation site of new modals is looked up, on by default
+     * Without it every modal is grouped under its class only, which saves a stack walk per modal
+     *
+     * @param captureSites Whether to record creation sites
+     */
+    public static void setCaptureSites(final boolean captureSites) {
+        ModalTracker.captureSites = captureSites;
+    }
+
+    /**
+     * Sets how long a modal can go without viewers before it is reported as a possible leak
+     *
+     * @param threshold The idle time, {@link Duration#ZERO} turns the warnings off
+     */
+    public static void setLeakThreshold(@NotNull final Duration threshold) {
+        Preconditions.checkArgument(!threshold.isNegative(), "Leak threshold can't be negative!");
+        leakThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Gets how long a modal can go without viewers before it is reported
+     *
+     * @return The idle time, zero if the warnings are off
+     */
+    @NotNull
+    public static Duration getLeakThreshold() {
+        return Duration.ofNanos(leakThresholdNanos);
+    }
+
+    /**
+     * Starts checking for leaked modals every minute on the scheduler, replacing the previous check
+     *
+     * @param scheduler The scheduler to run the check timer on
+     */
+    public static void startLeakChecks(@NotNull final ModalScheduler scheduler) {
+        final long period = CHECK_INTERVAL.toMillis() / 50;
+
+        synchronized (ModalTracker.class) {
+            if (checkTask != null) checkTask.cancel();
+            checkTask = scheduler.runTimer(() -> CoreAPI.getExecutor().execute(ModalTracker::checkLeaks), period, period);
+        }
+    }
+
+    /**
+     * Gets the amount of modals that were not garbage collected yet
+     *
+     * @return The live modal count
+     */
+    public static int getLiveCount() {
+        expunge();
+        return HANDLES.size();
+    }
+
+    /**
+     * Gets the modals that were created and not garbage collected yet
+     * Modals that are no longer used but not collected yet are included
+     *
+     * @return A snapshot of the live modals
+     */
+    @NotNull
+    public static List<BaseModal> getLiveModals() {
+        expunge();
+
+        final List<BaseModal> modals = new ArrayList<>(HANDLES.size());
+        for (final Handle handle : HANDLES) {
+            final BaseModal modal = handle.get();
+            if (modal != null) modals.add(modal);
+        }
+        return modals;
+    }
+
+    /**
+     * Groups the live modals by creation site and class, largest estimated size first
+     *
+     * @return One {@link SiteReport} per creation site and modal class
+     */
+    @NotNull
+    public static List<SiteReport> report() {
+        expunge();
+
+        final long now = System.nanoTime();
+        final long threshold = leakThresholdNanos;
+        final Map<String, SiteReport> reports = new HashMap<>();
+
+        for (final Handle handle : HANDLES) {
+            final BaseModal modal = handle.get();
+            if (modal == null) continue;
+
+            final String type = typeOf(modal.getClass());
+            final SiteReport report = reports.computeIfAbsent(handle.site + '\u0000' + type, key -> new SiteReport(handle.site, type));
+            final long idleSince = handle.idleSince;
+
+            report.live++;
+            if (idleSince != 0) report.idle++;
+            if (idleSince != 0 && threshold > 0 && now - idleSince > threshold) report.leaked++;
+
+            final Footprint footprint = new Footprint();
+            modal.measure(footprint);
+            report.slots += footprint.slots;
+            report.items += footprint.items;
+            report.stacks += footprint.stacks;
+            report.actions += footprint.actions;
+        }
+
+        final List<SiteReport> sorted = new ArrayList<>(reports.values());
+        sorted.sort(Comparator.comparingLong(SiteReport::getEstimatedBytes).reversed());
+        return sorted;
+    }
+
+    /**
+     * Starts tracking a new modal, called while it is constructed
+     *
+     * @param modal The modal
+     * @return The handle the modal reports its viewers to
+     */
+    @NotNull
+    static Handle track(@NotNull final BaseModal modal) {
+        expunge();
+
+        final Handle handle = new Handle(modal, captureSites ? findSite() : UNKNOWN_SITE);
+        HANDLES.add(handle);
+        return handle;
+    }
+
+    /**
+     * Warns once per modal about modals that had no viewers for longer than the threshold
+     */
+    static void checkLeaks() {
+        expunge();
+
+        final long threshold = leakThresholdNanos;
+        if (threshold == 0) return;
+
+        final long now = System.nanoTime();
+        final Map<String, Integer> suspects = new HashMap<>();
+
+        for (final Handle handle : HANDLES) {
+            final long idleSince = handle.idleSince;
+            if (idleSince == 0 || handle.warned || now - idleSince <= threshold) continue;
+
+            final BaseModal modal = handle.get();
+            if (modal == null) continue;
+
+            handle.warned = true;
+            suspects.merge(typeOf(modal.getClass()) + " created at " + handle.site, 1, Integer::sum);
+        }
+
+        suspects.forEach((site, count) -> CoreAPI.getPlugin().getLogger().log(
+            Level.WARNING,
+            count + " " + site + " had no viewers for over " + TimeUnit.NANOSECONDS.toSeconds(threshold)
+                + "s and are still reachable, check for actions or caches holding on to them"
+        ));
+    }
+
+    private static void expunge() {
+        Reference<? extends BaseModal> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            HANDLES.remove(reference);
+        }
+    }
+
+    /**
+     * Finds the first frame outside of CoreAPI and outside of modal constructors
+     */
+    @NotNull
+    private static String findSite() {
+        return WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().startsWith(API_PACKAGE))
+            .filter(frame -> !(frame.getMethodName().equals("<init>") && BaseModal.class.isAssignableFrom(frame.getDeclaringClass())))
+            .findFirst()
+            .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse(UNKNOWN_SITE));
+    }
+
+    @NotNull
+    private static String typeOf(@NotNull final Class<?> type) {
+        final String simpleName = type.getSimpleName();
+        return simpleName.isEmpty() ? type.getName() : simpleName;
+    }
+
+    /**
+     * Weak handle of a tracked modal with when it last lost its viewers
+     */
+    static final class Handle extends WeakReference<BaseModal> {
+        private final String site;
+        // Zero while the modal has viewers, otherwise when it lost them.
+        private volatile long idleSince;
+        private volatile boolean warned;
+
+        private Handle(@NotNull final BaseModal modal, @NotNull final String site) {
+            super(modal, QUEUE);
+            this.site = site;
+            this.idleSince = now();
+        }
+
+        /**
+         * Marks the modal as viewed
+         */
+        void active() {
+            idleSince = 0;
+            warned = false;
+        }
+
+        /**
+         * Marks the modal as having no viewers
+         */
+        void idle() {
+            idleSince = now();
+        }
+
+        private static long now() {
+            final long now = System.nanoTime();
+            return now == 0 ? 1 : now;
+        }
+    }
+
+    /**
+     * What a modal holds, filled by {@link BaseModal#measure(Footprint)}
+     */
+    static final class Footprint {
+        private long slots;
+        private long items;
+        private long stacks;
+        private long actions;
+
+        /**
+         * Adds the inventory slots
+         *
+         * @param slots The inventory size
+         */
+        void addSlots(final int slots) {
+            this.slots += slots;
+        }
+
+        /**
+         * Adds items with their stacks
+         * Only the amount is taken, the items may be changing on their owning thread while the report runs
+         *
+         * @param items The amount of items
+         */
+        void addItems(final int items) {
+            this.items += items;
+            this.stacks += items;
+        }
+
+        /**
+         * Adds actions that are set on the modal itself
+         *
+         * @param actions The actions, null ones are skipped
+         */
+        void addActions(@NotNull final Object... actions) {
+            for (final Object action : actions) {
+                if (action != null) this.actions++;
+            }
+        }
+
+        /**
+         * Adds an amount of actions
+         *
+         * @param actions The amount
+         */
+        void addActions(final int actions) {
+            this.actions += actions;
+        }
+    }
+
+    /**
+     * The live modals of one creation site and modal class
+     */
+    public static final class SiteReport {
+        private final String site;
+        private final String type;
+        private int live;
+        private int idle;
+        private int leaked;
+        private long slots;
+        private long items;
+        private long stacks;
+        private long actions;
+
+        private SiteReport(@NotNull final String site, @NotNull final String type) {
+            this.site = site;
+            this.type = type;
+        }
+
+        /**
+         * Gets the code that created the modals
+         *
+         * @return The {@code class.method:line} of the creation site, or {@code unknown}
+         */
+        @NotNull
+        public String getSite() {
+            return site;
+        }
+
+        /**
+         * Gets the class of the modals
+         *
+         * @return The simple class name
+         */
+        @NotNull
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Gets the amount of live modals
+         *
+         * @return The modals not garbage collected yet
+         */
+        public int getLive() {
+            return live;
+        }
+
+        /**
+         * Gets the amount of live modals without viewers
+         *
+         * @return The idle modals
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * Gets the amount of modals without viewers for longer than the leak threshold
+         *
+         * @return The possibly leaked modals
+         */
+        public int getLeaked() {
+            return leaked;
+        }
+
+        /**
+         * Gets the items held by the modals, page items included
+         *
+         * @return The amount of {@link ModalItem}s
+         */
+        public long getItems() {
+            return items;
+        }
+
+        /**
+         * Gets the item stacks held by the modals
+         *
+         * @return The amount of stacks
+         */
+        public long getStacks() {
+            return stacks;
+        }
+
+        /**
+         * Gets the actions held by the modals, the actions of their items are not counted
+         *
+         * @return The amount of actions
+         */
+        public long getActions() {
+            return actions;
+        }
+
+        /**
+         * Estimates the memory the modals keep alive, without what their actions capture
+         *
+         * @return The estimated bytes
+         */
+        public long getEstimatedBytes() {
+            return live * MODAL_BYTES + slots * SLOT_BYTES + items * ITEM_BYTES + stacks * STACK_BYTES + actions * ACTION_BYTES;
+        }
+    }
+}
@@ -8,12 +8,14 @@
 
 package io.rhythmknights.coreapi.component.modal;
 
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalRenderEvent;
 import io.rhythmknights.coreapi.component.module.DynamicTitle;
 import io.rhythmknights.coreapi.component.module.ModalContainer;
 import io.rhythmknights.coreapi.component.module.InteractionModifier;
 import io.rhythmknights.coreapi.component.module.PaginationRegion;
 
-import net.kyori.adventure.text.Component;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
@@ -29,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Modal that allows you to have multiple pages
@@ -46,6 +50,12 @@ public class PaginatedModal extends BaseModal {
     private int pageSize;
     private int pageNum = 1;
 
+    // Window in ticks in which page changes are coalesced into one redraw, 0 for none
+    private long navigationCoalescing = 0;
+    // Whether a coalescing window is open, and whether the page changed again since the last redraw
+    private volatile boolean navigationWindow;
+    private volatile boolean navigationPending;
+
     public PaginatedModal(final @NotNull ModalContainer modalContainer, final int pageSize, final @NotNull Set<InteractionModifier> interactionModifiers) {
         super(modalContainer, interactionModifiers);
         this.pageSize = pageSize;
@@ -142,6 +152,19 @@ public class PaginatedModal extends BaseModal {
      */
     public void addItem(@NotNull final ModalItem item) {
         pageItems.add(item);
+        trackAnimation(item);
+    }
+
+    /**
+     * Adds a placeholder {@link ModalItem} to the page and patches it once the real {@link ItemStack} is ready
+     *
+     * @param placeholder The {@link ModalItem} to show until the item is ready
+     * @param resolved    The future with the final {@link ItemStack}
+     */
+    public void addItem(@NotNull final ModalItem placeholder, @NotNull final CompletableFuture<? extends ItemStack> resolved) {
+        pageItems.add(placeholder);
+        trackAnimation(placeholder);
+        patchItem(placeholder, resolved);
     }
 
     /**
@@ -152,6 +175,9 @@ public class PaginatedModal extends BaseModal {
     @Override
     public void addItem(@NotNull final ModalItem... items) {
         pageItems.addAll(Arrays.asList(items));
+        for (final ModalItem item : items) {
+            trackAnimation(item);
+        }
     }
 
     /**
@@ -205,6 +231,7 @@ public class PaginatedModal extends BaseModal {
         // Updates both lists and inventory
         currentPage.put(slot, item);
         pageItems.set(index, item);
+        trackAnimation(item);
         getInventory().setItem(slot, item.getItemStack());
     }
 
@@ -258,45 +285,41 @@ public class PaginatedModal extends BaseModal {
      */
     public void open(@NotNull final HumanEntity player, final int openPage) {
         if (player.isSleeping()) return;
-        if (openPage <= getPagesNum() || openPage > 0) pageNum = openPage;
 
-        getInventory().clear();
-        currentPage.clear();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.OPEN, player, openPage);
+        try {
+            if (openPage <= getPagesNum() || openPage > 0) pageNum = openPage;
 
-        populateModal();
+            getInventory().clear();
+            currentPage.clear();
 
-        if (pageSize == 0) pageSize = calculatePageSize();
+            populateModal();
 
-        populatePage();
-        updateDynamicTitle();
+            if (pageSize == 0) pageSize = calculatePageSize();
 
-        player.openInventory(getInventory());
+            populatePage();
+            updateDynamicTitle();
+
+            player.openInventory(getInventory());
+        } finally {
+            tracer.end(span, this, ModalTracer.Phase.OPEN, null);
+        }
     }
 
     /**
-     * Overrides {@link BaseModal#updateTitle(Component)} to use the paginated populator instead
-     * Updates the title of the modal
-     * <i>This method may cause LAG if used on a loop</i>
-     *
-     * @param title The title to set
-     * @return The modal for easier use when declaring, works like a builder
+     * Fills the inventory again with the current page, without changing the page or opening it to anyone
      */
     @Override
-    public @NotNull BaseModal updateTitle(@NotNull final Component title) {
-        setUpdating(true);
-
-        final List<HumanEntity> viewers = new ArrayList<>(getInventory().getViewers());
-        final ModalContainer modalContainer = modalContainer();
+    void render() {
+        getInventory().clear();
+        currentPage.clear();
 
-        modalContainer.title(title);
-        setInventory(modalContainer.createInventory(this));
+        populateModal();
 
-        for (final HumanEntity player : viewers) {
-            open(player, getPageNum());
-        }
+        if (pageSize == 0) pageSize = calculatePageSize();
 
-        setUpdating(false);
-        return this;
+        populatePage();
     }
 
     /**
@@ -357,9 +380,7 @@ public class PaginatedModal extends BaseModal {
     public boolean next() {
         if (pageNum + 1 > getPagesNum()) return false;
 
-        pageNum++;
-        updatePage();
-        updateDynamicTitle();
+        goToPage(pageNum + 1);
         return true;
     }
 
@@ -371,10 +392,73 @@ public class PaginatedModal extends BaseModal {
     public boolean previous() {
         if (pageNum - 1 == 0) return false;
 
-        pageNum--;
+        goToPage(pageNum - 1);
+        return true;
+    }
+
+    /**
+     * Coalesces page changes made within the window into one page jump
+     * The first change is redrawn right away, the ones that follow within the window only change the page number
+     * and are redrawn together once the window ends
+     * Useful against players spamming the navigation items
+     *
+     * @param ticks The window in ticks, 0 to redraw on every change
+     * @return The modal for easier use when declaring, works like a builder
+     */
+    @NotNull
+    public PaginatedModal setNavigationCoalescing(final long ticks) {
+        if (ticks < 0) throw new IllegalArgumentException("Coalescing window can't be negative!");
+        this.navigationCoalescing = ticks;
+        return this;
+    }
+
+    /**
+     * Changes the page and redraws it, within a coalescing window the redraw waits for the window to end
+     *
+     * @param page The new page number
+     */
+    void goToPage(final int page) {
+        pageNum = page;
+
+        if (navigationCoalescing == 0) {
+            redrawPage();
+            return;
+        }
+
+        if (navigationWindow) {
+            navigationPending = true;
+            return;
+        }
+
+        // A change after a quiet period is drawn right away and opens the window for the ones that follow.
+        navigationWindow = true;
+        redrawPage();
+        scheduleNavigationWindowEnd();
+    }
+
+    /**
+     * Ends the coalescing window after its delay, with one trailing redraw if the page changed in the meantime
+     */
+    private void scheduleNavigationWindowEnd() {
+        ModalTicker.get().schedule(() -> runOnOwner(() -> {
+            if (!navigationPending) {
+                navigationWindow = false;
+                return;
+            }
+
+            // The trailing redraw keeps the window open, so changes made right after it are coalesced too.
+            navigationPending = false;
+            redrawPage();
+            scheduleNavigationWindowEnd();
+        }, () -> navigationWindow = false), navigationCoalescing);
+    }
+
+    /**
+     * Redraws the page and the dynamic title
+     */
+    private void redrawPage() {
         updatePage();
         updateDynamicTitle();
-        return true;
     }
 
     /**
@@ -419,9 +503,28 @@ public class PaginatedModal extends BaseModal {
     }
 
     /**
-     * Populates the inventory with the page items
+     * Populates the page and records how long it took
      */
     private void populatePage() {
+        final ModalRenderEvent event = new ModalRenderEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.PAGE_CHANGE, null, getPageNum());
+        final long start = System.nanoTime();
+        event.begin();
+
+        try {
+            populatePageItems();
+        } finally {
+            stats().recordRenderTime(System.nanoTime() - start);
+            event.complete(this, currentPage.size());
+            tracer.end(span, this, ModalTracer.Phase.PAGE_CHANGE, null);
+        }
+    }
+
+    /**
+     * Populates the inventory with the page items
+     */
+    private void populatePageItems() {
         final List<ModalItem> pageContent = getPageNum(pageNum);
         
         // If we have a pagination region, only use those slots
@@ -466,6 +569,29 @@ public class PaginatedModal extends BaseModal {
         }
     }
 
+    /**
+     * Overridden {@link BaseModal#forEachShownItem(BiConsumer)} to also include the items on the current page
+     *
+     * @param action The action to run
+     */
+    @Override
+    void forEachShownItem(@NotNull final BiConsumer<Integer, ModalItem> action) {
+        super.forEachShownItem(action);
+        currentPage.forEach(action);
+    }
+
+    /**
+     * Overridden {@link BaseModal#measure(ModalTracker.Footprint)} to also count the page items
+     *
+     * @param footprint The footprint of the modal's creation site
+     */
+    @Override
+    void measure(@NotNull final ModalTracker.Footprint footprint) {
+        super.measure(footprint);
+        // Still null while the modal is being constructed, it's tracked from the base constructor.
+        if (pageItems != null) footprint.addItems(pageItems.size());
+    }
+
     /**
      * Gets the current page items to be used on other modal types
      *
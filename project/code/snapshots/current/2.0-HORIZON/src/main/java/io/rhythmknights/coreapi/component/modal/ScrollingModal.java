@@ -8,6 +8,9 @@
 
 package io.rhythmknights.coreapi.component.modal;
 
+import io.rhythmknights.coreapi.component.metric.ModalTracer;
+import io.rhythmknights.coreapi.component.metric.ModalTracing;
+import io.rhythmknights.coreapi.component.metric.jfr.ModalRenderEvent;
 import io.rhythmknights.coreapi.component.module.ModalContainer;
 import io.rhythmknights.coreapi.component.module.DynamicTitle;
 import io.rhythmknights.coreapi.component.module.InteractionModifier;
@@ -72,8 +75,7 @@ public class ScrollingModal extends PaginatedModal {
     public boolean next() {
         if (getPageNum() * scrollSize + getPageSize() >= getPageItems().size() + scrollSize) return false;
 
-        setPageNum(getPageNum() + 1);
-        updatePage();
+        goToPage(getPageNum() + 1);
         return true;
     }
 
@@ -84,8 +86,7 @@ public class ScrollingModal extends PaginatedModal {
     public boolean previous() {
         if (getPageNum() - 1 == 0) return false;
 
-        setPageNum(getPageNum() - 1);
-        updatePage();
+        goToPage(getPageNum() - 1);
         return true;
     }
 
@@ -108,6 +109,43 @@ public class ScrollingModal extends PaginatedModal {
     @Override
     public void open(@NotNull final HumanEntity player, final int openPage) {
         if (player.isSleeping()) return;
+
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.OPEN, player, openPage);
+        try {
+            getInventory().clear();
+            getMutableCurrentPageItems().clear();
+
+            populateModal();
+
+            if (getPageSize() == 0) setPageSize(calculatePageSize());
+            if (scrollSize == 0) scrollSize = calculateScrollSize();
+            if (openPage > 0 && (openPage * scrollSize + getPageSize() <= getPageItems().size() + scrollSize)) {
+                setPageNum(openPage);
+            }
+
+            populatePage();
+
+            // Update dynamic title if used
+            ModalContainer container = modalContainer();
+            if (container.hasDynamicTitle() && container.getDynamicTitle() instanceof DynamicTitle.PaginatedDynamicTitle) {
+                DynamicTitle.PaginatedDynamicTitle dynamicTitle = 
+                    (DynamicTitle.PaginatedDynamicTitle) container.getDynamicTitle();
+
+                dynamicTitle.update(getPageNum(), getPagesNum());
+            }
+
+            player.openInventory(getInventory());
+        } finally {
+            tracer.end(span, this, ModalTracer.Phase.OPEN, null);
+        }
+    }
+
+    /**
+     * Overrides {@link PaginatedModal#render()} to make it work with the specific scrolls
+     */
+    @Override
+    void render() {
         getInventory().clear();
         getMutableCurrentPageItems().clear();
 
@@ -115,22 +153,8 @@ public class ScrollingModal extends PaginatedModal {
 
         if (getPageSize() == 0) setPageSize(calculatePageSize());
         if (scrollSize == 0) scrollSize = calculateScrollSize();
-        if (openPage > 0 && (openPage * scrollSize + getPageSize() <= getPageItems().size() + scrollSize)) {
-            setPageNum(openPage);
-        }
 
         populatePage();
-        
-        // Update dynamic title if used
-        ModalContainer container = modalContainer();
-        if (container.hasDynamicTitle() && container.getDynamicTitle() instanceof DynamicTitle.PaginatedDynamicTitle) {
-            DynamicTitle.PaginatedDynamicTitle dynamicTitle = 
-                (DynamicTitle.PaginatedDynamicTitle) container.getDynamicTitle();
-            
-            dynamicTitle.update(getPageNum(), getPagesNum());
-        }
-
-        player.openInventory(getInventory());
     }
 
     /**
@@ -143,9 +167,28 @@ public class ScrollingModal extends PaginatedModal {
     }
 
     /**
-     * Fills the page with the items
+     * Populates the page and records how long it took
      */
     private void populatePage() {
+        final ModalRenderEvent event = new ModalRenderEvent();
+        final ModalTracer tracer = ModalTracing.current();
+        final Object span = tracer.begin(this, ModalTracer.Phase.PAGE_CHANGE, null, getPageNum());
+        final long start = System.nanoTime();
+        event.begin();
+
+        try {
+            populatePageItems();
+        } finally {
+            stats().recordRenderTime(System.nanoTime() - start);
+            event.complete(this, getMutableCurrentPageItems().size());
+            tracer.end(span, this, ModalTracer.Phase.PAGE_CHANGE, null);
+        }
+    }
+
+    /**
+     * Fills the page with the items
+     */
+    private void populatePageItems() {
         // Adds the paginated items to the page
         final List<ModalItem> pageItems = getPage(getPageNum());
         
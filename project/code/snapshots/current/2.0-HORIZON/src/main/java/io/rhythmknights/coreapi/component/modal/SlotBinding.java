@@ -0,0 +1,176 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.modal;
+
+import io.rhythmknights.coreapi.component.module.ModalAction;
+import io.rhythmknights.coreapi.component.scheduler.ModalScheduler;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Binds a slot of a modal to a value, the item is only rendered again when the value changes
+ * Values are either polled from a {@link Supplier} by the shared ticker while the modal is open, or pushed from any thread
+ * Pushed values are coalesced, only the latest one is rendered, and the writes go through the {@link ModalMutationQueue}
+ *
+ * @param <T> The type of the bound value
+ */
+public final class SlotBinding<T> implements ModalScheduler.Task {
+
+    private static final Object UNSET = new Object();
+
+    private final BaseModal modal;
+    private final int slot;
+    private final Function<? super T, ? extends ItemStack> renderer;
+
+    // Decides when a value counts as changed, the value itself by default.
+    private Function<? super T, ?> key = Function.identity();
+    private ModalAction<InventoryClickEvent> action;
+
+    // Only touched on the owning thread.
+    private ModalItem item;
+    private Object lastKey = UNSET;
+
+    // Latest pushed value that is not rendered yet.
+    private final AtomicReference<Object> pending = new AtomicReference<>(UNSET);
+    private volatile ModalScheduler.Task poll;
+    private volatile boolean cancelled;
+
+    SlotBinding(@NotNull final BaseModal modal, final int slot, @NotNull final Function<? super T, ? extends ItemStack> renderer) {
+        this.modal = modal;
+        this.slot = slot;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Sets what decides if a value changed, for example an id or a rounded number
+     *
+     * @param key Maps a value to the key compared with {@link Object#equals(Object)}
+     * @return The binding, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public SlotBinding<T> keyedBy(@NotNull final Function<? super T, ?> key) {
+        this.key = key;
+        return this;
+    }
+
+    /**
+     * Sets the action of the bound item
+     *
+     * @param action The {@link ModalAction} to run when the item is clicked
+     * @return The binding, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public SlotBinding<T> action(@Nullable final ModalAction<@NotNull InventoryClickEvent> action) {
+        this.action = action;
+        return this;
+    }
+
+    /**
+     * Polls the supplier every interval while the modal is open, and once right away
+     * The supplier runs on the thread that owns the viewers
+     *
+     * @param interval The interval in ticks
+     * @param supplier Supplies the current value
+     * @return The binding, for chaining
+     */
+    @NotNull
+    @Contract("_, _ -> this")
+    public SlotBinding<T> poll(final long interval, @NotNull final Supplier<? extends T> supplier) {
+        final ModalScheduler.Task previous = poll;
+        if (previous != null) previous.cancel();
+
+        poll = modal.addRefresh(interval, () -> apply(supplier.get()));
+        modal.runOnOwner(() -> apply(supplier.get()));
+        return this;
+    }
+
+    /**
+     * Pushes a new value from any thread
+     * Values pushed before the last one was rendered replace it
+     *
+     * @param value The new value
+     */
+    public void push(@Nullable final T value) {
+        if (cancelled) return;
+        if (pending.getAndSet(value) == UNSET) modal.mutations().run(it -> flush());
+    }
+
+    /**
+     * Pushes the value once the future completes, failed futures are ignored
+     * The push is registered to the modal's {@link ModalScope} and cancelled when the modal closes, the future itself
+     * is left alone since it may be shared with other modals
+     *
+     * @param future The future with the new value
+     */
+    public void pushAsync(@NotNull final CompletableFuture<? extends T> future) {
+        modal.scope().register(future.thenAccept(this::push));
+    }
+
+    /**
+     * Gets the bound slot
+     *
+     * @return The slot
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+
+        final ModalScheduler.Task current = poll;
+        if (current != null) current.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        final Object value = pending.getAndSet(UNSET);
+        if (value != UNSET) apply((T) value);
+    }
+
+    /**
+     * Renders the value into the slot if its key changed, on the owning thread
+     *
+     * @param value The current value
+     */
+    private void apply(@Nullable final T value) {
+        if (cancelled) return;
+
+        final Object current = key.apply(value);
+        if (lastKey != UNSET && Objects.equals(lastKey, current)) return;
+        lastKey = current;
+
+        final ItemStack itemStack = renderer.apply(value);
+        if (item == null || item.getAction() != action) {
+            item = new ModalItem(itemStack, action);
+        } else {
+            item.setItemStack(itemStack);
+        }
+
+        modal.updateItem(slot, item);
+    }
+}
@@ -8,9 +8,11 @@
 
 package io.rhythmknights.coreapi.modal.builder.item;
 
+import io.rhythmknights.coreapi.component.metric.jfr.ItemBuildEvent;
 import io.rhythmknights.coreapi.component.module.ModalAction;
 import io.rhythmknights.coreapi.component.module.exception.ModalException;
 import io.rhythmknights.coreapi.component.utility.ItemNBT;
+import io.rhythmknights.coreapi.component.utility.TextTemplate;
 import io.rhythmknights.coreapi.component.utility.VersionHelper;
 import io.rhythmknights.coreapi.component.modal.ModalItem;
 
@@ -109,6 +111,22 @@ public abstract class BaseItemBuilder<B extends BaseItemBuilder<B>> {
         }
     }
 
+    /**
+     * Renders and serializes a {@link TextTemplate} for the current MC version
+     * On versions that store JSON strings the template's pre-serialized segments are concatenated directly
+     *
+     * @param template The template to render
+     * @param values   The placeholder values by key
+     * @return the serialized representation of the rendered template
+     */
+    protected @NotNull Object serializeTemplate(@NotNull final TextTemplate template, @NotNull final Map<String, ?> values) {
+        if (VersionHelper.IS_ITEM_NAME_COMPONENT) {
+            return serializeComponent(template.render(values));
+        }
+
+        return template.renderJson(values);
+    }
+
     /**
      * Deserializes the object with the right ComponentSerializer for the current MC version
      *
@@ -153,6 +171,33 @@ public abstract class BaseItemBuilder<B extends BaseItemBuilder<B>> {
         return (B) this;
     }
 
+    /**
+     * Sets the display name of the item from a {@link TextTemplate}
+     * Uses the template's pre-serialized segments when the server backend allows it
+     *
+     * @param name   The {@link TextTemplate} name
+     * @param values The placeholder values by key
+     * @return {@link ItemBuilder}
+     */
+    @NotNull
+    @Contract("_, _ -> this")
+    public B name(@NotNull final TextTemplate name, @NotNull final Map<String, ?> values) {
+        if (meta == null) return (B) this;
+
+        if (VersionHelper.IS_COMPONENT_LEGACY) {
+            meta.setDisplayName(name.renderLegacy(values));
+            return (B) this;
+        }
+
+        try {
+            DISPLAY_NAME_FIELD.set(meta, serializeTemplate(name, values));
+        } catch (IllegalAccessException exception) {
+            exception.printStackTrace();
+        }
+
+        return (B) this;
+    }
+
     /**
      * Sets the amount of items
      *
@@ -219,6 +264,43 @@ public abstract class BaseItemBuilder<B extends BaseItemBuilder<B>> {
         return (B) this;
     }
 
+    /**
+     * Set the lore lines of an item from {@link TextTemplate}s
+     * Uses the templates' pre-serialized segments when the server backend allows it
+     *
+     * @param lore   A {@link List} with the lore line templates
+     * @param values The placeholder values by key, shared by every line
+     * @return {@link ItemBuilder}
+     */
+    @NotNull
+    @Contract("_, _ -> this")
+    public B lore(@NotNull final List<@NotNull TextTemplate> lore, @NotNull final Map<String, ?> values) {
+        if (meta == null) return (B) this;
+
+        if (VersionHelper.IS_COMPONENT_LEGACY) {
+            final List<String> legacyLore = new ArrayList<>(lore.size());
+            for (final TextTemplate line : lore) {
+                legacyLore.add(line.renderLegacy(values));
+            }
+
+            meta.setLore(legacyLore);
+            return (B) this;
+        }
+
+        final List<Object> jsonLore = new ArrayList<>(lore.size());
+        for (final TextTemplate line : lore) {
+            jsonLore.add(serializeTemplate(line, values));
+        }
+
+        try {
+            LORE_FIELD.set(meta, jsonLore);
+        } catch (IllegalAccessException exception) {
+            exception.printStackTrace();
+        }
+
+        return (B) this;
+    }
+
     /**
      * Consumer for freely adding to the lore
      * 
@@ -527,7 +609,10 @@ public abstract class BaseItemBuilder<B extends BaseItemBuilder<B>> {
      */
     @NotNull
     public ItemStack build() {
+        final ItemBuildEvent event = new ItemBuildEvent();
+        event.begin();
         itemStack.setItemMeta(meta);
+        event.complete(getClass(), itemStack.getType());
         return itemStack;
     }
 
@@ -9,6 +9,7 @@
 package io.rhythmknights.coreapi.modal.builder.item;
 
 import io.rhythmknights.coreapi.component.module.exception.ModalException;
+import io.rhythmknights.coreapi.component.utility.SkullCache;
 import io.rhythmknights.coreapi.component.utility.SkullUtil;
 import io.rhythmknights.coreapi.component.utility.VersionHelper;
 
@@ -25,7 +26,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * New builder for skull only, created to separate the specific features for skulls
@@ -63,6 +66,7 @@ public final class SkullBuilder extends BaseItemBuilder<SkullBuilder> {
 
     /**
      * Sets the skull texture using a BASE64 string
+     * The textured profile is built once per texture and shared through {@link SkullCache}
      *
      * @param texture The base64 texture
      * @param profileId The unique id of the profile
@@ -73,14 +77,126 @@ public final class SkullBuilder extends BaseItemBuilder<SkullBuilder> {
     public SkullBuilder texture(@NotNull final String texture, @NotNull final UUID profileId) {
         if (!SkullUtil.isPlayerSkull(getItemStack())) return this;
 
+        return copyProfile(SkullCache.texture(profileId + ":" + texture, () -> createTextured(texture, profileId)));
+    }
+
+    /**
+     * Sets the skull texture using a BASE64 string
+     * The profile id is derived from the texture, so the same texture always gets the same id
+     *
+     * @param texture The base64 texture
+     * @return {@link SkullBuilder}
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public SkullBuilder texture(@NotNull final String texture) {
+        return texture(texture, UUID.nameUUIDFromBytes(texture.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Sets skull owner via bukkit methods
+     *
+     * @param player {@link OfflinePlayer} to set skull of
+     * @return {@link SkullBuilder}
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public SkullBuilder owner(@NotNull final OfflinePlayer player) {
+        if (!SkullUtil.isPlayerSkull(getItemStack())) return this;
+
+        final SkullMeta skullMeta = (SkullMeta) getMeta();
+
+        if (VersionHelper.IS_SKULL_OWNER_LEGACY) {
+            skullMeta.setOwner(player.getName());
+        } else {
+            skullMeta.setOwningPlayer(player);
+        }
+
+        setMeta(skullMeta);
+        return this;
+    }
+
+    /**
+     * Sets skull owner without blocking on the profile lookup
+     * The builder itself is left untouched so it can be built as a placeholder, the future completes with a copy
+     * of the current item that has the owner's profile applied, lookups are shared through {@link SkullCache}
+     * On versions without the profile API the owner is set on this builder right away and the future is already completed
+     *
+     * @param player {@link OfflinePlayer} to set skull of
+     * @return A future with the finished skull {@link ItemStack}
+     */
+    @NotNull
+    public CompletableFuture<ItemStack> ownerAsync(@NotNull final OfflinePlayer player) {
+        if (!SkullUtil.isPlayerSkull(getItemStack()) || !VersionHelper.IS_PLAYER_PROFILE_API) {
+            return CompletableFuture.completedFuture(owner(player).build().clone());
+        }
+
+        final ItemStack placeholder = build().clone();
+        return SkullCache.owner(player.getUniqueId(), () -> player.getPlayerProfile().update().thenApply(profile -> {
+            final ItemStack skull = SkullUtil.skull();
+            final SkullMeta skullMeta = (SkullMeta) skull.getItemMeta();
+            skullMeta.setOwnerProfile(profile);
+            skull.setItemMeta(skullMeta);
+            return skull;
+        })).thenApply(prototype -> new SkullBuilder(placeholder.clone()).copyProfile(prototype).build());
+    }
+
+    /**
+     * Copies the profile of a cached skull prototype into this builder's meta
+     *
+     * @param prototype The skull to copy from
+     * @return {@link SkullBuilder}
+     */
+    @NotNull
+    private SkullBuilder copyProfile(@NotNull final ItemStack prototype) {
+        final SkullMeta prototypeMeta = (SkullMeta) prototype.getItemMeta();
+        if (prototypeMeta == null) return this;
+
+        final SkullMeta skullMeta = (SkullMeta) getMeta();
+
+        if (VersionHelper.IS_PLAYER_PROFILE_API) {
+            final PlayerProfile profile = prototypeMeta.getOwnerProfile();
+            if (profile == null) return this;
+
+            skullMeta.setOwnerProfile(profile);
+            setMeta(skullMeta);
+            return this;
+        }
+
+        if (PROFILE_FIELD == null) return this;
+
+        try {
+            final Object profile = PROFILE_FIELD.get(prototypeMeta);
+            if (profile == null) return this;
+
+            PROFILE_FIELD.set(skullMeta, profile);
+        } catch (IllegalAccessException exception) {
+            exception.printStackTrace();
+        }
+
+        setMeta(skullMeta);
+        return this;
+    }
+
+    /**
+     * Creates a bare skull with the textured profile applied, used to fill the {@link SkullCache}
+     *
+     * @param texture   The base64 texture
+     * @param profileId The unique id of the profile
+     * @return The textured skull, without a profile if the texture is invalid
+     */
+    @NotNull
+    private static ItemStack createTextured(@NotNull final String texture, @NotNull final UUID profileId) {
+        final ItemStack skull = SkullUtil.skull();
+        final SkullMeta skullMeta = (SkullMeta) skull.getItemMeta();
+
         if (VersionHelper.IS_PLAYER_PROFILE_API) {
             final String textureUrl = SkullUtil.getSkinUrl(texture);
 
             if (textureUrl == null) {
-                return this;
+                return skull;
             }
 
-            final SkullMeta skullMeta = (SkullMeta) getMeta();
             final PlayerProfile profile = Bukkit.createPlayerProfile(profileId, "");
             final PlayerTextures textures = profile.getTextures();
 
@@ -88,81 +204,44 @@ public final class SkullBuilder extends BaseItemBuilder<SkullBuilder> {
                 textures.setSkin(new URL(textureUrl));
             } catch (MalformedURLException e) {
                 e.printStackTrace();
-                return this;
+                return skull;
             }
 
             profile.setTextures(textures);
             skullMeta.setOwnerProfile(profile);
-            setMeta(skullMeta);
-            return this;
+            skull.setItemMeta(skullMeta);
+            return skull;
         }
 
         if (PROFILE_FIELD == null) {
-            return this;
+            return skull;
         }
 
-        final SkullMeta skullMeta = (SkullMeta) getMeta();
-        
         try {
             // Create GameProfile using reflection to avoid direct dependency on com.mojang.authlib
             Class<?> gameProfileClass = Class.forName("com.mojang.authlib.GameProfile");
             Object profile = gameProfileClass.getConstructor(UUID.class, String.class).newInstance(profileId, "");
-            
+
             // Get properties and put texture
             Method getPropertiesMethod = gameProfileClass.getMethod("getProperties");
             Object properties = getPropertiesMethod.invoke(profile);
-            
+
             // Create Property for texture
             Class<?> propertyClass = Class.forName("com.mojang.authlib.properties.Property");
             Object textureProperty = propertyClass.getConstructor(String.class, String.class)
                 .newInstance("textures", texture);
-            
+
             // Add property to properties
             Method putMethod = properties.getClass().getMethod("put", Object.class, Object.class);
             putMethod.invoke(properties, "textures", textureProperty);
-            
+
             // Set the profile field
             PROFILE_FIELD.set(skullMeta, profile);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
 
-        setMeta(skullMeta);
-        return this;
-    }
-
-    /**
-     * Sets the skull texture using a BASE64 string
-     *
-     * @param texture The base64 texture
-     * @return {@link SkullBuilder}
-     */
-    @NotNull
-    @Contract("_ -> this")
-    public SkullBuilder texture(@NotNull final String texture) {
-        return texture(texture, UUID.randomUUID());
-    }
-
-    /**
-     * Sets skull owner via bukkit methods
-     *
-     * @param player {@link OfflinePlayer} to set skull of
-     * @return {@link SkullBuilder}
-     */
-    @NotNull
-    @Contract("_ -> this")
-    public SkullBuilder owner(@NotNull final OfflinePlayer player) {
-        if (!SkullUtil.isPlayerSkull(getItemStack())) return this;
-
-        final SkullMeta skullMeta = (SkullMeta) getMeta();
-
-        if (VersionHelper.IS_SKULL_OWNER_LEGACY) {
-            skullMeta.setOwner(player.getName());
-        } else {
-            skullMeta.setOwningPlayer(player);
-        }
-
-        setMeta(skullMeta);
-        return this;
+        skull.setItemMeta(skullMeta);
+        return skull;
     }
 }
@@ -10,10 +10,10 @@ package io.rhythmknights.coreapi.component.modal.builder.modal;
 
 import io.rhythmknights.coreapi.component.module.ModalContainer;
 import io.rhythmknights.coreapi.component.module.InventoryProvider;
+import io.rhythmknights.coreapi.component.utility.Legacy;
 import io.rhythmknights.coreapi.component.modal.BaseModal;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -23,18 +23,11 @@ public abstract class BaseChestModalBuilder<M extends BaseModal, B extends BaseC
 
     private int rows = 1;
     
-    // Create a proper legacy serializer that handles color codes correctly
-    private static final LegacyComponentSerializer INVENTORY_SERIALIZER = LegacyComponentSerializer.builder()
-            .character('§') // Use section symbol for Bukkit inventory titles
-            .hexColors()
-            .useUnusualXRepeatedCharacterHexFormat()
-            .build();
-    
     private InventoryProvider.Chest inventoryProvider =
             (title, owner, rows) -> {
                 // Convert Component to legacy string for Bukkit inventory creation
                 // This preserves the formatting by using section symbols (§) instead of ampersands (&)
-                String titleString = INVENTORY_SERIALIZER.serialize(title);
+                String titleString = Legacy.SERIALIZER.serialize(title);
                 return Bukkit.createInventory(owner, rows, titleString);
             };
 
@@ -11,10 +11,10 @@ package io.rhythmknights.coreapi.component.modal.builder.modal;
 import io.rhythmknights.coreapi.component.module.ModalContainer;
 import io.rhythmknights.coreapi.component.module.ModalType;
 import io.rhythmknights.coreapi.component.module.InventoryProvider;
+import io.rhythmknights.coreapi.component.utility.Legacy;
 import io.rhythmknights.coreapi.component.modal.Modal;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -28,18 +28,11 @@ public final class TypedModalBuilder extends BaseModalBuilder<Modal, TypedModalB
 
     private ModalType modalType;
     
-    // Create a proper legacy serializer that handles color codes correctly
-    private static final LegacyComponentSerializer INVENTORY_SERIALIZER = LegacyComponentSerializer.builder()
-            .character('§') // Use section symbol for Bukkit inventory titles
-            .hexColors()
-            .useUnusualXRepeatedCharacterHexFormat()
-            .build();
-    
     private InventoryProvider.Typed inventoryProvider =
         (title, owner, type) -> {
             // Convert Component to legacy string for Bukkit inventory creation
             // This preserves the formatting by using section symbols (§) instead of ampersands (&)
-            String titleString = INVENTORY_SERIALIZER.serialize(title);
+            String titleString = Legacy.SERIALIZER.serialize(title);
             return Bukkit.createInventory(owner, type, titleString);
         };
 
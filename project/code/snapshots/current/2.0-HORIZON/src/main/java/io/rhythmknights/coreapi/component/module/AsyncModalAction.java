@@ -0,0 +1,274 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.module;
+
+import io.rhythmknights.coreapi.CoreAPI;
+import io.rhythmknights.coreapi.component.modal.BaseModal;
+import io.rhythmknights.coreapi.component.modal.ModalScope;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+
+/**
+ * {@link ModalAction} whose body runs off the server thread
+ * The click is cancelled, or decided by {@link #sync(ModalAction)}, synchronously while the event is still live
+ * The body then runs on the executor and returns a continuation that is applied on the thread that owns the player
+ * While a body is in flight for a player, further clicks of that player on the same action are ignored
+ * Bodies are registered to the modal's {@link ModalScope}, closing the modal interrupts them and drops the continuation
+ */
+public final class AsyncModalAction implements ModalAction<InventoryClickEvent> {
+
+    // A body that never reports back stops guarding after this long.
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Body body;
+    private final Map<UUID, Long> inFlight = new ConcurrentHashMap<>();
+
+    private ModalAction<InventoryClickEvent> sync = event -> event.setCancelled(true);
+    private Executor executor;
+    private BiConsumer<HumanEntity, Throwable> errorHandler;
+    private long timeoutNanos = DEFAULT_TIMEOUT.toNanos();
+
+    private AsyncModalAction(@NotNull final Body body) {
+        this.body = body;
+    }
+
+    /**
+     * Creates an action that runs the body on {@link CoreAPI#getExecutor()}
+     *
+     * @param body The work to do off the server thread
+     * @return The new {@link AsyncModalAction}
+     */
+    @NotNull
+    public static AsyncModalAction of(@NotNull final Body body) {
+        return new AsyncModalAction(body);
+    }
+
+    /**
+     * Sets the synchronous part of the action, run on the event before the body is submitted
+     * By default it cancels the event, if the event is left uncancelled the item may be taken
+     *
+     * @param sync The synchronous {@link ModalAction}
+     * @return The action, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public AsyncModalAction sync(@NotNull final ModalAction<@NotNull InventoryClickEvent> sync) {
+        this.sync = sync;
+        return this;
+    }
+
+    /**
+     * Sets the executor the body runs on, for example a pool sized for a database
+     *
+     * @param executor The {@link Executor}
+     * @return The action, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public AsyncModalAction executor(@NotNull final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets what happens when the body or the continuation throws, run on the thread that owns the player
+     * By default the error is logged by the plugin
+     *
+     * @param errorHandler Receives the player and the error
+     * @return The action, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public AsyncModalAction onError(@NotNull final BiConsumer<@NotNull HumanEntity, @NotNull Throwable> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Sets how long a click stays in flight at most, in case the continuation never runs because the player left
+     *
+     * @param timeout The timeout
+     * @return The action, for chaining
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public AsyncModalAction timeout(@NotNull final Duration timeout) {
+        Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive!");
+        this.timeoutNanos = timeout.toNanos();
+        return this;
+    }
+
+    /**
+     * Checks whether a body is running for the player
+     *
+     * @param player The player's {@link UUID}
+     * @return Whether a click of the player is in flight
+     */
+    public boolean isInFlight(@NotNull final UUID player) {
+        final Long started = inFlight.get(player);
+        return started != null && System.nanoTime() - started < timeoutNanos;
+    }
+
+    @Override
+    public void execute(@NotNull final InventoryClickEvent event) {
+        sync.execute(event);
+
+        final HumanEntity player = event.getWhoClicked();
+        final UUID uuid = player.getUniqueId();
+        final long now = System.nanoTime();
+
+        // Only one click per player at a time, stale entries of players that never got their continuation are replaced.
+        final Long previous = inFlight.putIfAbsent(uuid, now);
+        if (previous != null && (now - previous < timeoutNanos || !inFlight.replace(uuid, previous, now))) return;
+
+        final Click click = new Click(player, event.getSlot(), event.getClick(), event.getCurrentItem());
+        final ModalScope scope = event.getInventory().getHolder() instanceof BaseModal
+            ? ((BaseModal) event.getInventory().getHolder()).scope()
+            : null;
+
+        final FutureTask<Runnable> task = new FutureTask<Runnable>(() -> body.run(click)) {
+            @Override
+            protected void done() {
+                if (scope != null) scope.unregister(this);
+                finish(this, player, now);
+            }
+        };
+
+        // Registered to the modal, closing it interrupts the body and drops the continuation.
+        if (scope != null) scope.register(task);
+
+        try {
+            (executor != null ? executor : CoreAPI.getExecutor()).execute(task);
+        } catch (RejectedExecutionException exception) {
+            task.cancel(false);
+            fail(player, exception);
+        }
+    }
+
+    private void finish(@NotNull final FutureTask<Runnable> task, @NotNull final HumanEntity player, final long started) {
+        if (task.isCancelled()) {
+            inFlight.remove(player.getUniqueId(), started);
+            return;
+        }
+
+        Runnable continuation = null;
+        Throwable error = null;
+        try {
+            continuation = task.get();
+        } catch (ExecutionException exception) {
+            error = exception.getCause();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            error = exception;
+        }
+
+        final Runnable resolved = continuation;
+        final Throwable failure = error;
+
+        CoreAPI.getScheduler().execute(player, () -> {
+            try {
+                if (failure != null) {
+                    fail(player, failure);
+                } else if (resolved != null) {
+                    resolved.run();
+                }
+            } catch (RuntimeException exception) {
+                fail(player, exception);
+            } finally {
+                inFlight.remove(player.getUniqueId(), started);
+            }
+        });
+    }
+
+    private void fail(@NotNull final HumanEntity player, @NotNull final Throwable throwable) {
+        if (errorHandler != null) {
+            errorHandler.accept(player, throwable);
+            return;
+        }
+
+        CoreAPI.getPlugin().getLogger().log(Level.SEVERE, "Async modal action failed for " + player.getName(), throwable);
+    }
+
+    /**
+     * The work of an {@link AsyncModalAction}, run off the server thread
+     */
+    @FunctionalInterface
+    public interface Body {
+
+        /**
+         * Runs the work of the action
+         *
+         * @param click A snapshot of the click
+         * @return The continuation to run on the thread that owns the player, or null for none
+         * @throws Exception If the work failed, handed to the error handler
+         */
+        @Nullable
+        Runnable run(@NotNull final Click click) throws Exception;
+    }
+
+    /**
+     * A snapshot of a click, safe to read from any thread
+     * Only read immutable data such as the id or name of the player off the server thread
+     */
+    public static final class Click {
+        private final HumanEntity player;
+        private final int slot;
+        private final ClickType clickType;
+        private final ItemStack currentItem;
+
+        private Click(@NotNull final HumanEntity player, final int slot, @NotNull final ClickType clickType, @Nullable final ItemStack currentItem) {
+            this.player = player;
+            this.slot = slot;
+            this.clickType = clickType;
+            this.currentItem = currentItem == null ? null : currentItem.clone();
+        }
+
+        @NotNull
+        public HumanEntity getPlayer() {
+            return player;
+        }
+
+        @NotNull
+        public UUID getPlayerId() {
+            return player.getUniqueId();
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+
+        @NotNull
+        public ClickType getClickType() {
+            return clickType;
+        }
+
+        @Nullable
+        public ItemStack getCurrentItem() {
+            return currentItem;
+        }
+    }
+}
@@ -15,13 +15,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
 /**
  * Class to set / get NBT tags from items.
- * 
+ * CraftItemStacks are read and written through their NMS handle directly, so reads never copy the item and writes
+ * mutate the given stack in place, just like {@link PDC} does. Only plain Bukkit stacks go through an NMS copy.
  */
 public final class LegacyNBT implements NBTWrapper {
 
@@ -31,6 +33,8 @@ public final class LegacyNBT implements NBTWrapper {
     private static Method getStringMethod;
     private static Method setStringMethod;
     private static Method setBooleanMethod;
+    private static Method setLongMethod;
+    private static Method getLongMethod;
     private static Method hasTagMethod;
     private static Method getTagMethod;
     private static Method setTagMethod;
@@ -40,19 +44,27 @@ public final class LegacyNBT implements NBTWrapper {
 
     private static Constructor<?> nbtCompoundConstructor;
 
+    private static Class<?> craftItemStackClass;
+    private static Field handleField;
+
     static {
         try {
             getStringMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("getString", String.class);
             removeTagMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("remove", String.class);
             setStringMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("setString", String.class, String.class);
             setBooleanMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("setBoolean", String.class, boolean.class);
+            setLongMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("setLong", String.class, long.class);
+            getLongMethod = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getMethod("getLong", String.class);
             hasTagMethod = Objects.requireNonNull(getNMSClass("ItemStack")).getMethod("hasTag");
             getTagMethod = Objects.requireNonNull(getNMSClass("ItemStack")).getMethod("getTag");
             setTagMethod = Objects.requireNonNull(getNMSClass("ItemStack")).getMethod("setTag", getNMSClass("NBTTagCompound"));
             nbtCompoundConstructor = Objects.requireNonNull(getNMSClass("NBTTagCompound")).getDeclaredConstructor();
             asNMSCopyMethod = Objects.requireNonNull(getCraftItemStackClass()).getMethod("asNMSCopy", ItemStack.class);
             asBukkitCopyMethod = Objects.requireNonNull(getCraftItemStackClass()).getMethod("asBukkitCopy", getNMSClass("ItemStack"));
-        } catch (NoSuchMethodException e) {
+            craftItemStackClass = getCraftItemStackClass();
+            handleField = Objects.requireNonNull(craftItemStackClass).getDeclaredField("handle");
+            handleField.setAccessible(true);
+        } catch (NoSuchMethodException | NoSuchFieldException e) {
             e.printStackTrace();
         }
     }
@@ -69,13 +81,14 @@ public final class LegacyNBT implements NBTWrapper {
     public ItemStack setString(@NotNull final ItemStack itemStack, final String key, final String value) {
         if (itemStack.getType() == Material.AIR) return itemStack;
 
-        Object nmsItemStack = asNMSCopy(itemStack);
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
         Object itemCompound = hasTag(nmsItemStack) ? getTag(nmsItemStack) : newNBTTagCompound();
 
         setString(itemCompound, key, value);
         setTag(nmsItemStack, itemCompound);
 
-        return asBukkitCopy(nmsItemStack);
+        return handle != null ? itemStack : asBukkitCopy(nmsItemStack);
     }
 
     /**
@@ -89,13 +102,13 @@ public final class LegacyNBT implements NBTWrapper {
     public ItemStack removeTag(@NotNull final ItemStack itemStack, final String key) {
         if (itemStack.getType() == Material.AIR) return itemStack;
 
-        Object nmsItemStack = asNMSCopy(itemStack);
-        Object itemCompound = hasTag(nmsItemStack) ? getTag(nmsItemStack) : newNBTTagCompound();
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
+        if (!hasTag(nmsItemStack)) return itemStack;
 
-        remove(itemCompound, key);
-        setTag(nmsItemStack, itemCompound);
+        remove(getTag(nmsItemStack), key);
 
-        return asBukkitCopy(nmsItemStack);
+        return handle != null ? itemStack : asBukkitCopy(nmsItemStack);
     }
 
     /**
@@ -111,13 +124,14 @@ public final class LegacyNBT implements NBTWrapper {
     public ItemStack setBoolean(@NotNull final ItemStack itemStack, final String key, final boolean value) {
         if (itemStack.getType() == Material.AIR) return itemStack;
 
-        Object nmsItemStack = asNMSCopy(itemStack);
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
         Object itemCompound = hasTag(nmsItemStack) ? getTag(nmsItemStack) : newNBTTagCompound();
 
         setBoolean(itemCompound, key, value);
         setTag(nmsItemStack, itemCompound);
 
-        return asBukkitCopy(nmsItemStack);
+        return handle != null ? itemStack : asBukkitCopy(nmsItemStack);
     }
 
     /**
@@ -125,17 +139,58 @@ public final class LegacyNBT implements NBTWrapper {
      *
      * @param itemStack The {@link ItemStack} to get from.
      * @param key       The key to look for.
-     * @return The tag that was stored in the {@link ItemStack}.
+     * @return The tag that was stored in the {@link ItemStack}, or {@code null} if the item has no tag at all.
      */
     @Nullable
     @Override
     public String getString(@NotNull final ItemStack itemStack, final String key) {
         if (itemStack.getType() == Material.AIR) return null;
 
-        Object nmsItemStack = asNMSCopy(itemStack);
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
+        if (nmsItemStack == null || !hasTag(nmsItemStack)) return null;
+
+        return getString(getTag(nmsItemStack), key);
+    }
+
+    /**
+     * Sets a long NBT tag to the an {@link ItemStack}.
+     *
+     * @param itemStack The current {@link ItemStack} to be set.
+     * @param key       The NBT key to use.
+     * @param value     The tag value to set.
+     * @return An {@link ItemStack} that has NBT set.
+     */
+    @Override
+    public ItemStack setLong(@NotNull final ItemStack itemStack, final String key, final long value) {
+        if (itemStack.getType() == Material.AIR) return itemStack;
+
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
         Object itemCompound = hasTag(nmsItemStack) ? getTag(nmsItemStack) : newNBTTagCompound();
 
-        return getString(itemCompound, key);
+        setLong(itemCompound, key, value);
+        setTag(nmsItemStack, itemCompound);
+
+        return handle != null ? itemStack : asBukkitCopy(nmsItemStack);
+    }
+
+    /**
+     * Gets the long NBT tag based on a given key.
+     *
+     * @param itemStack The {@link ItemStack} to get from.
+     * @param key       The key to look for.
+     * @return The tag that was stored in the {@link ItemStack}, or {@code 0} if there is none.
+     */
+    @Override
+    public long getLong(@NotNull final ItemStack itemStack, final String key) {
+        if (itemStack.getType() == Material.AIR) return 0;
+
+        final Object handle = getHandle(itemStack);
+        Object nmsItemStack = handle != null ? handle : asNMSCopy(itemStack);
+        if (nmsItemStack == null || !hasTag(nmsItemStack)) return 0;
+
+        return getLong(getTag(nmsItemStack), key);
     }
 
     /**
@@ -159,6 +214,21 @@ public final class LegacyNBT implements NBTWrapper {
         }
     }
 
+    private static void setLong(final Object itemCompound, final String key, final long value) {
+        try {
+            setLongMethod.invoke(itemCompound, key, value);
+        } catch (IllegalAccessException | InvocationTargetException ignored) {
+        }
+    }
+
+    private static long getLong(final Object itemCompound, final String key) {
+        try {
+            return (long) getLongMethod.invoke(itemCompound, key);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return 0;
+        }
+    }
+
     /**
      * Mimics the itemCompound#remove method.
      *
@@ -241,6 +311,22 @@ public final class LegacyNBT implements NBTWrapper {
         }
     }
 
+    /**
+     * Gets the NMS handle backing a CraftItemStack without copying it.
+     *
+     * @param itemStack The ItemStack to get the handle from.
+     * @return The NMS ItemStack, or {@code null} if the item is a plain Bukkit stack or has no handle.
+     */
+    private static Object getHandle(final ItemStack itemStack) {
+        if (handleField == null || !craftItemStackClass.isInstance(itemStack)) return null;
+
+        try {
+            return handleField.get(itemStack);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     /**
      * Mimics the CraftItemStack#asNMSCopy method.
      *
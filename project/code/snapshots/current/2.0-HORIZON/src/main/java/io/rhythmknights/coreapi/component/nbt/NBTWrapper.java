@@ -54,4 +54,35 @@ public interface NBTWrapper {
     @Nullable
     String getString(@NotNull final ItemStack itemStack, final String key);
 
+    /**
+     * Sets a long NBT tag to the an {@link ItemStack}.
+     * Stored as a String tag by default, implementations with a native long tag override it.
+     *
+     * @param itemStack The current {@link ItemStack} to be set.
+     * @param key       The NBT key to use.
+     * @param value     The tag value to set.
+     * @return An {@link ItemStack} that has NBT set.
+     */
+    default ItemStack setLong(@NotNull final ItemStack itemStack, final String key, final long value) {
+        return setString(itemStack, key, Long.toString(value));
+    }
+
+    /**
+     * Gets the long NBT tag based on a given key.
+     *
+     * @param itemStack The {@link ItemStack} to get from.
+     * @param key       The key to look for.
+     * @return The tag that was stored in the {@link ItemStack}, or {@code 0} if there is none.
+     */
+    default long getLong(@NotNull final ItemStack itemStack, final String key) {
+        final String value = getString(itemStack, key);
+        if (value == null || value.isEmpty()) return 0L;
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ignored) {
+            return 0L;
+        }
+    }
+
 }
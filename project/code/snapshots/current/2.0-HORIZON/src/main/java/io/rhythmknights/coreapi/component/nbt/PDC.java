@@ -18,6 +18,9 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Wrapper for compatibility with {@link LegacyNBT}.
  * This ideally wouldn't need exist, but legacy.
@@ -29,6 +32,11 @@ public final class PDC implements NBTWrapper {
      */
     private static final Plugin PLUGIN = CoreAPI.getPlugin();
 
+    /**
+     * Keys are looked up on every click, so they are created once per name.
+     */
+    private static final Map<String, NamespacedKey> KEYS = new ConcurrentHashMap<>();
+
     /**
      * Sets an String NBT tag to the an {@link ItemStack}.
      *
@@ -41,7 +49,7 @@ public final class PDC implements NBTWrapper {
     public ItemStack setString(@NotNull final ItemStack itemStack, final String key, final String value) {
         final ItemMeta meta = itemStack.getItemMeta();
         if (meta == null) return itemStack;
-        meta.getPersistentDataContainer().set(new NamespacedKey(PLUGIN, key), PersistentDataType.STRING, value);
+        meta.getPersistentDataContainer().set(key(key), PersistentDataType.STRING, value);
         itemStack.setItemMeta(meta);
         return itemStack;
     }
@@ -57,7 +65,7 @@ public final class PDC implements NBTWrapper {
     public ItemStack removeTag(@NotNull final ItemStack itemStack, final String key) {
         final ItemMeta meta = itemStack.getItemMeta();
         if (meta == null) return itemStack;
-        meta.getPersistentDataContainer().remove(new NamespacedKey(PLUGIN, key));
+        meta.getPersistentDataContainer().remove(key(key));
         itemStack.setItemMeta(meta);
         return itemStack;
     }
@@ -75,7 +83,7 @@ public final class PDC implements NBTWrapper {
     public ItemStack setBoolean(@NotNull final ItemStack itemStack, final String key, final boolean value) {
         final ItemMeta meta = itemStack.getItemMeta();
         if (meta == null) return itemStack;
-        meta.getPersistentDataContainer().set(new NamespacedKey(PLUGIN, key), PersistentDataType.BYTE, value ? (byte) 1 : 0);
+        meta.getPersistentDataContainer().set(key(key), PersistentDataType.BYTE, value ? (byte) 1 : 0);
         itemStack.setItemMeta(meta);
         return itemStack;
     }
@@ -92,7 +100,49 @@ public final class PDC implements NBTWrapper {
     public String getString(@NotNull final ItemStack itemStack, final String key) {
         final ItemMeta meta = itemStack.getItemMeta();
         if (meta == null) return null;
-        return meta.getPersistentDataContainer().get(new NamespacedKey(PLUGIN, key), PersistentDataType.STRING);
+        return meta.getPersistentDataContainer().get(key(key), PersistentDataType.STRING);
+    }
+
+    /**
+     * Sets a long NBT tag to the an {@link ItemStack}.
+     *
+     * @param itemStack The current {@link ItemStack} to be set.
+     * @param key       The NBT key to use.
+     * @param value     The tag value to set.
+     * @return An {@link ItemStack} that has NBT set.
+     */
+    @Override
+    public ItemStack setLong(@NotNull final ItemStack itemStack, final String key, final long value) {
+        final ItemMeta meta = itemStack.getItemMeta();
+        if (meta == null) return itemStack;
+        meta.getPersistentDataContainer().set(key(key), PersistentDataType.LONG, value);
+        itemStack.setItemMeta(meta);
+        return itemStack;
+    }
+
+    /**
+     * Gets the long NBT tag based on a given key.
+     *
+     * @param itemStack The {@link ItemStack} to get from.
+     * @param key       The key to look for.
+     * @return The tag that was stored in the {@link ItemStack}, or {@code 0} if there is none.
+     */
+    @Override
+    public long getLong(@NotNull final ItemStack itemStack, final String key) {
+        final ItemMeta meta = itemStack.getItemMeta();
+        if (meta == null) return 0;
+        final Long value = meta.getPersistentDataContainer().get(key(key), PersistentDataType.LONG);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Gets the cached {@link NamespacedKey} for the given name.
+     *
+     * @param key The key name.
+     * @return The {@link NamespacedKey} of the plugin.
+     */
+    private static NamespacedKey key(final String key) {
+        return KEYS.computeIfAbsent(key, name -> new NamespacedKey(PLUGIN, name));
     }
 
 }
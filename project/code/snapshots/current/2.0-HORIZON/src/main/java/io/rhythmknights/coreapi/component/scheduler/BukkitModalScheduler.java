@@ -0,0 +1,87 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link ModalScheduler} for Bukkit and Paper, where everything is owned by the main thread
+ */
+public final class BukkitModalScheduler implements ModalScheduler {
+
+    private final Plugin plugin;
+
+    public BukkitModalScheduler(@NotNull final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void execute(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired) {
+        executeGlobal(task);
+    }
+
+    @Override
+    public <T extends Entity> void executeEach(@NotNull final Collection<T> entities, @NotNull final Consumer<? super T> action) {
+        // Everything belongs to the main thread, so one task covers every entity.
+        final List<T> snapshot = new ArrayList<>(entities);
+        executeGlobal(() -> snapshot.forEach(action));
+    }
+
+    @Override
+    public void runLater(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired, final long delay) {
+        Bukkit.getScheduler().runTaskLater(plugin, task, delay);
+    }
+
+    @Override
+    public void executeGlobal(@NotNull final Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @NotNull
+    @Override
+    public Task runTimer(@NotNull final Runnable task, final long delay, final long period) {
+        final BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
+
+        return new Task() {
+            @Override
+            public void cancel() {
+                bukkitTask.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return bukkitTask.isCancelled();
+            }
+        };
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull final Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return Bukkit.isPrimaryThread();
+    }
+}
@@ -0,0 +1,249 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.scheduler;
+
+import io.rhythmknights.coreapi.component.module.exception.ModalException;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * {@link ModalScheduler} for Folia, entity work goes to the entity's region scheduler and global work to the global
+ * region scheduler. The Folia API is compiled against Spigot, so it's reached through {@link MethodHandle}s that are
+ * looked up once when the class loads.
+ */
+public final class FoliaModalScheduler implements ModalScheduler {
+
+    // Folia splits the world into sections of 16x16 chunks (grid exponent 4), block coordinates shift by 4 + 4.
+    private static final int REGION_SHIFT = 8;
+
+    private static final MethodHandle GET_ENTITY_SCHEDULER;
+    private static final MethodHandle ENTITY_EXECUTE;
+    private static final MethodHandle GET_GLOBAL_SCHEDULER;
+    private static final MethodHandle GLOBAL_EXECUTE;
+    private static final MethodHandle GLOBAL_RUN_AT_FIXED_RATE;
+    private static final MethodHandle TASK_CANCEL;
+    private static final MethodHandle TASK_IS_CANCELLED;
+    private static final MethodHandle IS_OWNED_BY_CURRENT_REGION;
+    private static final MethodHandle IS_GLOBAL_TICK_THREAD;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> entityScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+            final Class<?> globalScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+            final Class<?> scheduledTask = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+            final Class<?> cancelledState = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask$CancelledState");
+
+            GET_ENTITY_SCHEDULER = lookup.findVirtual(Entity.class, "getScheduler", MethodType.methodType(entityScheduler))
+                .asType(MethodType.methodType(Object.class, Entity.class));
+            ENTITY_EXECUTE = lookup.findVirtual(entityScheduler, "execute",
+                    MethodType.methodType(boolean.class, Plugin.class, Runnable.class, Runnable.class, long.class))
+                .asType(MethodType.methodType(boolean.class, Object.class, Plugin.class, Runnable.class, Runnable.class, long.class));
+            GET_GLOBAL_SCHEDULER = lookup.findStatic(Bukkit.class, "getGlobalRegionScheduler", MethodType.methodType(globalScheduler))
+                .asType(MethodType.methodType(Object.class));
+            GLOBAL_EXECUTE = lookup.findVirtual(globalScheduler, "execute", MethodType.methodType(void.class, Plugin.class, Runnable.class))
+                .asType(MethodType.methodType(void.class, Object.class, Plugin.class, Runnable.class));
+            GLOBAL_RUN_AT_FIXED_RATE = lookup.findVirtual(globalScheduler, "runAtFixedRate",
+                    MethodType.methodType(scheduledTask, Plugin.class, Consumer.class, long.class, long.class))
+                .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class, long.class, long.class));
+            TASK_CANCEL = lookup.findVirtual(scheduledTask, "cancel", MethodType.methodType(cancelledState))
+                .asType(MethodType.methodType(void.class, Object.class));
+            TASK_IS_CANCELLED = lookup.findVirtual(scheduledTask, "isCancelled", MethodType.methodType(boolean.class))
+                .asType(MethodType.methodType(boolean.class, Object.class));
+            IS_OWNED_BY_CURRENT_REGION = lookup.findStatic(Bukkit.class, "isOwnedByCurrentRegion",
+                MethodType.methodType(boolean.class, Entity.class));
+            IS_GLOBAL_TICK_THREAD = lookup.findStatic(Bukkit.class, "isGlobalTickThread", MethodType.methodType(boolean.class));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException exception) {
+            throw new ModalException("Could not find Folia Scheduler methods.", exception);
+        }
+    }
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+
+    public FoliaModalScheduler(@NotNull final Plugin plugin) {
+        this.plugin = plugin;
+
+        try {
+            this.globalScheduler = (Object) GET_GLOBAL_SCHEDULER.invokeExact();
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not get the Folia global region scheduler.", asException(throwable));
+        }
+    }
+
+    @Override
+    public void execute(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired) {
+        if (isOwnedByCurrentThread(entity)) {
+            task.run();
+            return;
+        }
+
+        runLater(entity, task, retired, 1L);
+    }
+
+    @Override
+    public <T extends Entity> void executeEach(@NotNull final Collection<T> entities, @NotNull final Consumer<? super T> action) {
+        final Map<RegionKey, List<T>> regions = new LinkedHashMap<>();
+        for (final T entity : entities) {
+            regions.computeIfAbsent(RegionKey.of(entity), key -> new ArrayList<>()).add(entity);
+        }
+
+        // One task per region, scheduled on the first entity of the group and covering every entity its thread owns.
+        // Entities that moved to another region in the meantime fall back to their own task, and so does the rest of
+        // the group when the entity it was scheduled on is removed before the task runs.
+        for (final List<T> group : regions.values()) {
+            execute(group.get(0), () -> {
+                for (final T entity : group) {
+                    if (isOwnedByCurrentThread(entity)) action.accept(entity);
+                    else execute(entity, () -> action.accept(entity));
+                }
+            }, () -> {
+                for (final T entity : group.subList(1, group.size())) {
+                    execute(entity, () -> action.accept(entity));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void runLater(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired, final long delay) {
+        final boolean scheduled;
+
+        try {
+            final Object scheduler = (Object) GET_ENTITY_SCHEDULER.invokeExact(entity);
+            scheduled = (boolean) ENTITY_EXECUTE.invokeExact(scheduler, plugin, task, retired, Math.max(1L, delay));
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not invoke Folia task.", asException(throwable));
+        }
+
+        // Folia refuses the task without calling either callback when the entity is already removed.
+        if (!scheduled) retired.run();
+    }
+
+    @Override
+    public void executeGlobal(@NotNull final Runnable task) {
+        if (isGlobalThread()) {
+            task.run();
+            return;
+        }
+
+        try {
+            GLOBAL_EXECUTE.invokeExact(globalScheduler, plugin, task);
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not invoke Folia global task.", asException(throwable));
+        }
+    }
+
+    @NotNull
+    @Override
+    public Task runTimer(@NotNull final Runnable task, final long delay, final long period) {
+        final Consumer<Object> consumer = scheduledTask -> task.run();
+        final Object scheduledTask;
+
+        try {
+            scheduledTask = (Object) GLOBAL_RUN_AT_FIXED_RATE.invokeExact(globalScheduler, plugin, (Consumer) consumer, Math.max(1L, delay), Math.max(1L, period));
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not invoke Folia global timer.", asException(throwable));
+        }
+
+        return new Task() {
+            @Override
+            public void cancel() {
+                try {
+                    TASK_CANCEL.invokeExact(scheduledTask);
+                } catch (Throwable throwable) {
+                    throw new ModalException("Could not cancel Folia task.", asException(throwable));
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                try {
+                    return (boolean) TASK_IS_CANCELLED.invokeExact(scheduledTask);
+                } catch (Throwable throwable) {
+                    throw new ModalException("Could not check Folia task.", asException(throwable));
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull final Entity entity) {
+        try {
+            return (boolean) IS_OWNED_BY_CURRENT_REGION.invokeExact(entity);
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not check Folia region ownership.", asException(throwable));
+        }
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        try {
+            return (boolean) IS_GLOBAL_TICK_THREAD.invokeExact();
+        } catch (Throwable throwable) {
+            throw new ModalException("Could not check Folia global thread.", asException(throwable));
+        }
+    }
+
+    @NotNull
+    private static Exception asException(@NotNull final Throwable throwable) {
+        if (throwable instanceof Error) throw (Error) throwable;
+        return (Exception) throwable;
+    }
+
+    /**
+     * Approximate Folia region of an entity, good enough to group entities that will likely share a thread
+     */
+    private static final class RegionKey {
+        private final UUID world;
+        private final int x;
+        private final int z;
+
+        private RegionKey(@NotNull final UUID world, final int x, final int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+
+        @NotNull
+        private static RegionKey of(@NotNull final Entity entity) {
+            final Location location = entity.getLocation();
+            return new RegionKey(location.getWorld().getUID(), location.getBlockX() >> REGION_SHIFT, location.getBlockZ() >> REGION_SHIFT);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (!(object instanceof RegionKey)) return false;
+            final RegionKey other = (RegionKey) object;
+            return x == other.x && z == other.z && world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, x, z);
+        }
+    }
+}
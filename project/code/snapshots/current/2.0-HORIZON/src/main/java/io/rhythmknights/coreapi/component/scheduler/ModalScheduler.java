@@ -0,0 +1,135 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.scheduler;
+
+import io.rhythmknights.coreapi.CoreAPI;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Abstraction over the server scheduler used for every hand off to the thread that owns a modal or a viewer
+ * The implementation is selected once in {@link CoreAPI#init}, {@link BukkitModalScheduler} on Bukkit and Paper,
+ * {@link FoliaModalScheduler} on Folia, and {@link SimulatedModalScheduler} can be passed in for tests and benchmarks
+ */
+public interface ModalScheduler {
+
+    /**
+     * Runs the task on the thread that owns the entity
+     * Runs it right away if the current thread already owns the entity, otherwise on the next tick
+     *
+     * @param entity The entity the task works with
+     * @param task   The task to run
+     */
+    default void execute(@NotNull final Entity entity, @NotNull final Runnable task) {
+        execute(entity, task, () -> {});
+    }
+
+    /**
+     * Runs the task on the thread that owns the entity
+     * Runs it right away if the current thread already owns the entity, otherwise on the next tick
+     * If the entity is removed before the task runs, for example a player logging out, the retired callback runs instead
+     *
+     * @param entity  The entity the task works with
+     * @param task    The task to run
+     * @param retired The callback to run if the task is dropped because the entity was removed
+     */
+    void execute(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired);
+
+    /**
+     * Runs the action once for every entity, each time on the thread that owns that entity
+     * Implementations batch entities that share an owner into a single task
+     *
+     * @param entities The entities, usually the viewers of a modal
+     * @param action   The action to run per entity
+     * @param <T>      The entity type
+     */
+    default <T extends Entity> void executeEach(@NotNull final Collection<T> entities, @NotNull final Consumer<? super T> action) {
+        for (final T entity : entities) {
+            execute(entity, () -> action.accept(entity));
+        }
+    }
+
+    /**
+     * Runs the task on the thread that owns the entity after a delay
+     *
+     * @param entity The entity the task works with
+     * @param task   The task to run
+     * @param delay  The delay in ticks, at least 1
+     */
+    default void runLater(@NotNull final Entity entity, @NotNull final Runnable task, final long delay) {
+        runLater(entity, task, () -> {}, delay);
+    }
+
+    /**
+     * Runs the task on the thread that owns the entity after a delay
+     * If the entity is removed before the task runs, for example a player logging out, the retired callback runs instead
+     *
+     * @param entity  The entity the task works with
+     * @param task    The task to run
+     * @param retired The callback to run if the task is dropped because the entity was removed
+     * @param delay   The delay in ticks, at least 1
+     */
+    void runLater(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired, final long delay);
+
+    /**
+     * Runs the task on the global thread, the main thread on Bukkit or the global region thread on Folia
+     * Runs it right away if the current thread is already the global thread, otherwise on the next tick
+     *
+     * @param task The task to run
+     */
+    void executeGlobal(@NotNull final Runnable task);
+
+    /**
+     * Runs the task repeatedly on the global thread
+     *
+     * @param task   The task to run
+     * @param delay  The delay before the first run in ticks, at least 1
+     * @param period The period between runs in ticks, at least 1
+     * @return The {@link Task} to cancel the timer with
+     */
+    @NotNull
+    Task runTimer(@NotNull final Runnable task, final long delay, final long period);
+
+    /**
+     * Checks whether the current thread owns the entity and may touch it and its open inventory
+     *
+     * @param entity The entity to check
+     * @return Whether the entity is owned by the current thread
+     */
+    boolean isOwnedByCurrentThread(@NotNull final Entity entity);
+
+    /**
+     * Checks whether the current thread is the global thread
+     *
+     * @return Whether the current thread is the global thread
+     */
+    boolean isGlobalThread();
+
+    /**
+     * A scheduled repeating task
+     */
+    interface Task {
+
+        /**
+         * Cancels the task, it won't run again
+         */
+        void cancel();
+
+        /**
+         * Checks whether the task was cancelled
+         *
+         * @return Whether the task was cancelled
+         */
+        boolean isCancelled();
+    }
+}
@@ -0,0 +1,170 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Deterministic {@link ModalScheduler} for tests and benchmarks
+ * Time only moves when {@link #tick()} is called, and the thread that created the scheduler owns every entity
+ * Tasks submitted from other threads are queued and run on the next tick, in submission order
+ */
+public final class SimulatedModalScheduler implements ModalScheduler {
+
+    private final Thread owner = Thread.currentThread();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    private long currentTick;
+    private long sequence;
+
+    @Override
+    public void execute(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired) {
+        executeGlobal(task);
+    }
+
+    @Override
+    public void runLater(@NotNull final Entity entity, @NotNull final Runnable task, @NotNull final Runnable retired, final long delay) {
+        schedule(task, Math.max(1L, delay), 0L);
+    }
+
+    @Override
+    public void executeGlobal(@NotNull final Runnable task) {
+        if (isGlobalThread()) {
+            task.run();
+            return;
+        }
+
+        schedule(task, 1L, 0L);
+    }
+
+    @NotNull
+    @Override
+    public Task runTimer(@NotNull final Runnable task, final long delay, final long period) {
+        return schedule(task, Math.max(1L, delay), Math.max(1L, period));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull final Entity entity) {
+        return isGlobalThread();
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return Thread.currentThread() == owner;
+    }
+
+    /**
+     * Advances the clock by one tick and runs every task that became due
+     */
+    public void tick() {
+        final List<Entry> due = new ArrayList<>();
+
+        synchronized (queue) {
+            currentTick++;
+            while (!queue.isEmpty() && queue.peek().tick <= currentTick) {
+                due.add(queue.poll());
+            }
+        }
+
+        for (final Entry entry : due) {
+            if (entry.cancelled) continue;
+
+            entry.task.run();
+
+            if (entry.period > 0 && !entry.cancelled) {
+                synchronized (queue) {
+                    entry.tick = currentTick + entry.period;
+                    entry.sequence = sequence++;
+                    queue.add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances the clock by the given amount of ticks
+     *
+     * @param ticks The amount of ticks
+     */
+    public void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Gets the current tick
+     *
+     * @return The amount of ticks since the scheduler was created
+     */
+    public long getCurrentTick() {
+        synchronized (queue) {
+            return currentTick;
+        }
+    }
+
+    /**
+     * Gets the amount of tasks waiting to run, including repeating ones
+     *
+     * @return The amount of pending tasks
+     */
+    public int getPendingTasks() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    @NotNull
+    private Entry schedule(@NotNull final Runnable task, final long delay, final long period) {
+        synchronized (queue) {
+            final Entry entry = new Entry(task, currentTick + delay, period, sequence++);
+            queue.add(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * A queued task, ordered by the tick it runs at and then by submission order
+     */
+    private static final class Entry implements Task, Comparable<Entry> {
+        private final Runnable task;
+        private final long period;
+        private long tick;
+        private long sequence;
+        private volatile boolean cancelled;
+
+        private Entry(@NotNull final Runnable task, final long tick, final long period, final long sequence) {
+            this.task = task;
+            this.tick = tick;
+            this.period = period;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(@NotNull final Entry other) {
+            if (tick != other.tick) return Long.compare(tick, other.tick);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.scheduler;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel counting in ticks
+ * Timeouts can be scheduled and cancelled from any thread, {@link #advance(Consumer)} must always be called by the same thread
+ * Advancing only visits the one bucket of the current tick, so the cost depends on what is due rather than on what is scheduled
+ *
+ * @param <T> The type of the scheduled values
+ */
+public final class TimerWheel<T> {
+
+    private final Node<T>[] buckets;
+    private final int mask;
+
+    // Timeouts scheduled since the last advance, moved into the buckets by the advancing thread.
+    private final Queue<Node<T>> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile long tick;
+
+    /**
+     * Creates a wheel with the given amount of buckets, rounded up to a power of two
+     *
+     * @param buckets The amount of buckets, timeouts further away than this go around the wheel more than once
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(final int buckets) {
+        Preconditions.checkArgument(buckets > 0 && buckets <= 1 << 30, "Bucket count must be between 1 and 2^30!");
+
+        int length = 1;
+        while (length < buckets) length <<= 1;
+
+        this.buckets = (Node<T>[]) new Node<?>[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Schedules a value to expire after the delay
+     *
+     * @param value The value handed to {@link #advance(Consumer)} once it expires
+     * @param delay The delay in ticks, at least 1
+     * @return The {@link ModalScheduler.Task} to cancel the timeout with
+     */
+    @NotNull
+    public ModalScheduler.Task schedule(@NotNull final T value, final long delay) {
+        final Node<T> node = new Node<>(value, Math.max(1L, delay));
+        size.incrementAndGet();
+        inbox.add(node);
+        return node;
+    }
+
+    /**
+     * Moves the wheel one tick forward and hands every value that expired to the consumer
+     * If the consumer throws, the rest of the bucket is still handed over and the first exception is rethrown afterwards
+     *
+     * @param expired Receives the expired values, in no particular order
+     */
+    public void advance(@NotNull final Consumer<? super T> expired) {
+        final long now = tick + 1;
+        tick = now;
+
+        Node<T> node;
+        while ((node = inbox.poll()) != null) {
+            // The delay counts from the tick the timeout was picked up on.
+            node.deadline = now - 1 + node.delay;
+            link(node);
+        }
+
+        final int index = (int) (now & mask);
+        node = buckets[index];
+        RuntimeException failure = null;
+
+        while (node != null) {
+            final Node<T> next = node.next;
+
+            if (node.cancelled) {
+                unlink(index, node);
+            } else if (node.deadline <= now) {
+                unlink(index, node);
+
+                try {
+                    expired.accept(node.value);
+                } catch (RuntimeException exception) {
+                    if (failure == null) failure = exception;
+                    else failure.addSuppressed(exception);
+                }
+            }
+
+            node = next;
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Gets the current tick of the wheel
+     *
+     * @return The amount of times the wheel was advanced
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the amount of scheduled timeouts, cancelled ones count until the wheel gets to them
+     *
+     * @return The amount of scheduled timeouts
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void link(@NotNull final Node<T> node) {
+        final int index = (int) (node.deadline & mask);
+        final Node<T> head = buckets[index];
+
+        node.next = head;
+        if (head != null) head.previous = node;
+        buckets[index] = node;
+    }
+
+    private void unlink(final int index, @NotNull final Node<T> node) {
+        if (node.previous != null) node.previous.next = node.next;
+        else buckets[index] = node.next;
+        if (node.next != null) node.next.previous = node.previous;
+
+        node.previous = null;
+        node.next = null;
+        size.decrementAndGet();
+    }
+
+    /**
+     * A scheduled timeout, linked into the bucket of its deadline
+     */
+    private static final class Node<T> implements ModalScheduler.Task {
+        private final T value;
+        private final long delay;
+        private long deadline;
+        private Node<T> previous;
+        private Node<T> next;
+        private volatile boolean cancelled;
+
+        private Node(@NotNull final T value, final long delay) {
+            this.value = value;
+            this.delay = delay;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -8,6 +8,7 @@
 
 package io.rhythmknights.coreapi.component.utility;
 
+import io.rhythmknights.coreapi.component.metric.jfr.NbtReadEvent;
 import io.rhythmknights.coreapi.component.module.nbt.LegacyNBT;
 import io.rhythmknights.coreapi.component.module.nbt.NBTWrapper;
 import io.rhythmknights.coreapi.component.module.nbt.PDC;
@@ -43,7 +44,11 @@ public final class ItemNBT {
      * @return The tag that was stored in the {@link ItemStack}.
      */
     public static String getString(@NotNull final ItemStack itemStack, @NotNull final String key) {
-        return nbt.getString(itemStack, key);
+        final NbtReadEvent event = new NbtReadEvent();
+        event.begin();
+        final String value = nbt.getString(itemStack, key);
+        event.complete(key, nbt.getClass(), value != null);
+        return value;
     }
 
     /**
@@ -59,6 +64,33 @@ public final class ItemNBT {
         return nbt.setBoolean(itemStack, key, value);
     }
 
+    /**
+     * Sets a long NBT tag to the an {@link ItemStack}.
+     *
+     * @param itemStack The current {@link ItemStack} to be set.
+     * @param key       The NBT key to use.
+     * @param value     The tag value to set.
+     * @return An {@link ItemStack} that has NBT set.
+     */
+    public static ItemStack setLong(@NotNull final ItemStack itemStack, @NotNull final String key, final long value) {
+        return nbt.setLong(itemStack, key, value);
+    }
+
+    /**
+     * Gets the long NBT tag based on a given key.
+     *
+     * @param itemStack The {@link ItemStack} to get from.
+     * @param key       The key to look for.
+     * @return The tag that was stored in the {@link ItemStack}, or {@code 0} if there is none.
+     */
+    public static long getLong(@NotNull final ItemStack itemStack, @NotNull final String key) {
+        final NbtReadEvent event = new NbtReadEvent();
+        event.begin();
+        final long value = nbt.getLong(itemStack, key);
+        event.complete(key, nbt.getClass(), value != 0);
+        return value;
+    }
+
     /**
      * Removes a tag from an {@link ItemStack}.
      *
@@ -8,6 +8,10 @@
 
 package io.rhythmknights.coreapi.component.utility;
 
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
@@ -61,10 +65,78 @@ public final class Legacy {
         throw new UnsupportedOperationException("Class should not be instantiated!");
     }
 
+    /**
+     * The format a string was classified as by {@link TextSerializer}
+     */
+    enum Format {
+        PLAIN,
+        LEGACY,
+        MINI_MESSAGE
+    }
+
+    /**
+     * Classifies the text in a single pass without parsing it
+     * A string with at least one tag-like {@code <...>} sequence is MiniMessage, otherwise a string with a color code
+     * or an url is legacy, and anything else is plain text
+     *
+     * @param text The text to classify
+     * @return The {@link Format} of the text
+     */
+    @NotNull
+    static Format classify(@NotNull final String text) {
+        boolean legacy = false;
+        boolean tagOpen = false;
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            final char character = text.charAt(i);
+
+            switch (character) {
+                case '<':
+                    tagOpen = i + 1 < length && isTagStart(text.charAt(i + 1));
+                    break;
+                case '>':
+                    if (tagOpen) return Format.MINI_MESSAGE;
+                    break;
+                case '&':
+                case '§':
+                    legacy |= i + 1 < length && isLegacyCode(text.charAt(i + 1));
+                    break;
+                case ':':
+                    legacy |= text.startsWith("//", i + 1);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return legacy ? Format.LEGACY : Format.PLAIN;
+    }
+
+    private static boolean isTagStart(final char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+            || character == '#' || character == '/' || character == '!';
+    }
+
+    private static boolean isLegacyCode(final char character) {
+        return (character >= '0' && character <= '9') || (character >= 'a' && character <= 'f')
+            || (character >= 'k' && character <= 'o') || (character >= 'A' && character <= 'F')
+            || (character >= 'K' && character <= 'O') || character == 'r' || character == 'R'
+            || character == 'x' || character == 'X' || character == '#';
+    }
+
     /**
      * Custom serializer that combines both legacy and MiniMessage formats
+     * Results are kept in bounded caches in both directions, since the same names, lore and titles are converted over and over
      */
     public static class TextSerializer {
+
+        // Default amount of entries kept by each cache.
+        private static final long DEFAULT_CACHE_SIZE = 2048;
+
+        private volatile Cache<String, Component> deserializeCache = createCache(DEFAULT_CACHE_SIZE);
+        private volatile Cache<Component, String> serializeCache = createCache(DEFAULT_CACHE_SIZE);
+
         /**
          * Converts a string with any combination of formatting styles to a Component
          * Supports:
@@ -75,18 +147,13 @@ public final class Legacy {
          * @return Adventure Component with applied formatting
          */
         public @NotNull Component deserialize(@NotNull String text) {
-            // Check if this looks like MiniMessage format
-            if (text.contains("<") && text.contains(">")) {
-                try {
-                    // Try MiniMessage first for strings that look like they contain MiniMessage tags
-                    return MINI_MESSAGE.deserialize(text);
-                } catch (Exception ignored) {
-                    // If MiniMessage parsing fails, fall back to legacy
-                }
-            }
-            
-            // Handle legacy formatting (&f and &#FFFFFF)
-            return LEGACY_INPUT_SERIALIZER.deserialize(text);
+            final Cache<String, Component> cache = deserializeCache;
+            Component component = cache.getIfPresent(text);
+            if (component != null) return component;
+
+            component = parse(text);
+            cache.put(text, component);
+            return component;
         }
 
         /**
@@ -97,7 +164,66 @@ public final class Legacy {
          * @return String with legacy formatting using § symbols
          */
         public @NotNull String serialize(@NotNull Component component) {
-            return LEGACY_OUTPUT_SERIALIZER.serialize(component);
+            final Cache<Component, String> cache = serializeCache;
+            String text = cache.getIfPresent(component);
+            if (text != null) return text;
+
+            text = LEGACY_OUTPUT_SERIALIZER.serialize(component);
+            cache.put(component, text);
+            return text;
+        }
+
+        /**
+         * Sets the maximum amount of entries kept by each cache, clearing both
+         * A size of 0 disables caching
+         *
+         * @param maximumSize The maximum amount of entries
+         */
+        public void setCacheSize(final long maximumSize) {
+            Preconditions.checkArgument(maximumSize >= 0, "Cache size can't be negative!");
+            deserializeCache = createCache(maximumSize);
+            serializeCache = createCache(maximumSize);
+        }
+
+        /**
+         * Gets the hit and miss statistics of the string to {@link Component} cache
+         *
+         * @return The {@link CacheStats} of the deserialize cache
+         */
+        public @NotNull CacheStats getDeserializeStats() {
+            return deserializeCache.stats();
+        }
+
+        /**
+         * Gets the hit and miss statistics of the {@link Component} to legacy string cache
+         *
+         * @return The {@link CacheStats} of the serialize cache
+         */
+        public @NotNull CacheStats getSerializeStats() {
+            return serializeCache.stats();
+        }
+
+        private @NotNull Component parse(@NotNull final String text) {
+            switch (classify(text)) {
+                case MINI_MESSAGE:
+                    try {
+                        return MINI_MESSAGE.deserialize(text);
+                    } catch (Exception ignored) {
+                        // Only reached on malformed input the classifier let through, fall back to legacy
+                        return LEGACY_INPUT_SERIALIZER.deserialize(text);
+                    }
+                case LEGACY:
+                    return LEGACY_INPUT_SERIALIZER.deserialize(text);
+                default:
+                    return Component.text(text);
+            }
+        }
+
+        private static <K, V> @NotNull Cache<K, V> createCache(final long maximumSize) {
+            return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.utility;
+
+import io.rhythmknights.coreapi.component.module.exception.ModalException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of finished skull {@link ItemStack} prototypes
+ * Textured skulls are keyed by their texture, player skulls by the owner's {@link UUID}
+ * Player skulls are resolved asynchronously and concurrent lookups of the same owner share one future
+ */
+public final class SkullCache {
+
+    // Defaults, big enough for a few leaderboard and player list menus.
+    private static final long DEFAULT_MAXIMUM_SIZE = 1024;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    private static volatile Cache<String, ItemStack> textures = createCache(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_WRITE);
+    private static volatile Cache<UUID, CompletableFuture<ItemStack>> owners = createCache(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_WRITE);
+
+    private SkullCache() {
+        throw new UnsupportedOperationException("Class should not be instantiated!");
+    }
+
+    /**
+     * Gets the skull prototype for a texture key, creating it with the loader if it's not cached
+     * The returned {@link ItemStack} is shared and must not be modified
+     *
+     * @param key    The texture key, usually the base64 texture
+     * @param loader Creates the skull when it's missing
+     * @return The cached skull prototype
+     */
+    @NotNull
+    public static ItemStack texture(@NotNull final String key, @NotNull final Supplier<@NotNull ItemStack> loader) {
+        try {
+            return textures.get(key, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            throw new ModalException("Could not create skull for texture " + key, exception);
+        }
+    }
+
+    /**
+     * Gets the skull prototype for an owner, starting the lookup with the loader if none is cached or in flight
+     * Failed lookups are not cached, so the next call tries again
+     *
+     * @param owner  The owner's {@link UUID}
+     * @param loader Starts the profile lookup when it's missing
+     * @return A future with the shared skull prototype, which must not be modified
+     */
+    @NotNull
+    public static CompletableFuture<ItemStack> owner(
+        @NotNull final UUID owner,
+        @NotNull final Supplier<@NotNull CompletableFuture<ItemStack>> loader
+    ) {
+        final Cache<UUID, CompletableFuture<ItemStack>> cache = owners;
+
+        try {
+            final CompletableFuture<ItemStack> future = cache.get(owner, loader::get);
+            future.whenComplete((itemStack, throwable) -> {
+                if (throwable != null) cache.asMap().remove(owner, future);
+            });
+            return future;
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            final CompletableFuture<ItemStack> failed = new CompletableFuture<>();
+            failed.completeExceptionally(exception.getCause());
+            return failed;
+        }
+    }
+
+    /**
+     * Sets the size and time to live of both caches, clearing them
+     *
+     * @param maximumSize      The maximum amount of skulls kept per cache
+     * @param expireAfterWrite How long a skull is kept after it was created
+     */
+    public static void configure(final long maximumSize, @NotNull final Duration expireAfterWrite) {
+        Preconditions.checkArgument(maximumSize >= 0, "Cache size can't be negative!");
+        textures = createCache(maximumSize, expireAfterWrite);
+        owners = createCache(maximumSize, expireAfterWrite);
+    }
+
+    /**
+     * Clears both caches
+     */
+    public static void invalidateAll() {
+        textures.invalidateAll();
+        owners.invalidateAll();
+    }
+
+    /**
+     * Gets the hit and miss statistics of the texture cache
+     *
+     * @return The {@link CacheStats} of the texture cache
+     */
+    @NotNull
+    public static CacheStats getTextureStats() {
+        return textures.stats();
+    }
+
+    /**
+     * Gets the hit and miss statistics of the owner cache
+     *
+     * @return The {@link CacheStats} of the owner cache
+     */
+    @NotNull
+    public static CacheStats getOwnerStats() {
+        return owners.stats();
+    }
+
+    @NotNull
+    private static <K, V> Cache<K, V> createCache(final long maximumSize, @NotNull final Duration expireAfterWrite) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite.toMillis(), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    }
+}
@@ -0,0 +1,359 @@
+// ──── CoreAPI ─────────────────────────────────────────────────────────▪
+//     ▪ CoreAPI - Copyright © 2025 RhythmKnights [CoreAPI]
+//     ▪ Original Work - Copyright © 2021 TriumphTeam [TriumphGUI]
+//
+//     ⏵ Licensed under the MIT License.
+//         See LICENSE file in the project root for full license information.
+// ────────────────────────────────────────────────────────────────────────────▪
+
+package io.rhythmknights.coreapi.component.utility;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A name or lore line that is parsed once into static {@link Component} segments and placeholder holes
+ * Placeholders are written as {@code {key}} or {@code {key:format}}, where format is a {@link String#format} pattern
+ * applied to non-component values, for example {@code <gold>Price: {price:%,.2f}</gold>}
+ * Rendering only fills the holes and reuses the pre-parsed, and where possible pre-serialized, static segments
+ * Placeholders are only supported in text content, not inside tag arguments such as click or hover values
+ */
+public final class TextTemplate {
+
+    // Private use area characters used to mark holes while the source is parsed.
+    private static final char MARKER_START = '\uE000';
+    private static final char MARKER_END = '\uF8FF';
+
+    private final String source;
+    private final List<String> placeholders;
+    private final Segment[] segments;
+
+    // Pre-serialized forms, computed lazily on first use.
+    private volatile String[] legacySegments;
+    private volatile String[] jsonSegments;
+
+    private TextTemplate(@NotNull final String source, @NotNull final List<String> placeholders, @NotNull final Segment[] segments) {
+        this.source = source;
+        this.placeholders = placeholders;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses the text with {@link Legacy#SERIALIZER} and splits it into static segments and placeholder holes
+     *
+     * @param text Text in legacy or MiniMessage format containing {@code {key}} placeholders
+     * @return The compiled {@link TextTemplate}
+     */
+    @NotNull
+    public static TextTemplate compile(@NotNull final String text) {
+        final Set<String> names = new LinkedHashSet<>();
+        final List<Hole> holes = new ArrayList<>();
+        final List<int[]> bounds = new ArrayList<>();
+
+        int index = text.indexOf('{');
+        while (index != -1) {
+            final int end = text.indexOf('}', index + 1);
+            if (end == -1) break;
+
+            if (!isPlaceholder(text, index + 1, end)) {
+                index = text.indexOf('{', index + 1);
+                continue;
+            }
+
+            final String body = text.substring(index + 1, end);
+            final int separator = body.indexOf(':');
+            final String key = separator == -1 ? body : body.substring(0, separator);
+
+            names.add(key);
+            holes.add(new Hole(key, separator == -1 ? null : body.substring(separator + 1), text.substring(index, end + 1), Style.empty()));
+            bounds.add(new int[]{index, end + 1});
+            index = text.indexOf('{', end + 1);
+        }
+
+        // Resource packs often use the private use area for glyphs, so pick a marker range the text doesn't use.
+        final char base = markerBase(text, holes.size());
+        final StringBuilder marked = new StringBuilder(text.length());
+        int last = 0;
+        for (int i = 0; i < bounds.size(); i++) {
+            marked.append(text, last, bounds.get(i)[0]).append((char) (base + i));
+            last = bounds.get(i)[1];
+        }
+        marked.append(text, last, text.length());
+
+        final List<Segment> segments = new ArrayList<>();
+        flatten(Legacy.SERIALIZER.deserialize(marked.toString()), Style.empty(), base, holes, segments);
+
+        return new TextTemplate(
+            text,
+            Collections.unmodifiableList(new ArrayList<>(names)),
+            segments.toArray(new Segment[0])
+        );
+    }
+
+    /**
+     * Gets the text this template was compiled from
+     *
+     * @return The source text
+     */
+    @NotNull
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the placeholder keys in the order they first appear
+     *
+     * @return An unmodifiable {@link List} with the keys
+     */
+    @NotNull
+    public List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Renders the template with no placeholder values, holes are left as their source text
+     *
+     * @return The rendered {@link Component}
+     */
+    @NotNull
+    public Component render() {
+        return render(Collections.emptyMap());
+    }
+
+    /**
+     * Renders the template by filling the holes with the given values
+     * {@link Component} values take the style of the hole as a fallback, anything else is formatted as text
+     * Missing values are left as their source text
+     *
+     * @param values The placeholder values by key
+     * @return The rendered {@link Component}
+     */
+    @NotNull
+    public Component render(@NotNull final Map<String, ?> values) {
+        if (segments.length == 0) return Component.empty();
+        if (segments.length == 1 && segments[0].hole == null) return segments[0].component;
+
+        final TextComponent.Builder builder = Component.text();
+        for (final Segment segment : segments) {
+            builder.append(segment.hole == null ? segment.component : segment.hole.fill(values));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Renders the template straight to a legacy string using {@code §} codes
+     * Static segments are serialized once and only the holes are serialized on each render
+     *
+     * @param values The placeholder values by key
+     * @return The rendered legacy string
+     */
+    @NotNull
+    public String renderLegacy(@NotNull final Map<String, ?> values) {
+        String[] serialized = legacySegments;
+        if (serialized == null) {
+            serialized = new String[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].hole == null) serialized[i] = legacy(segments[i].component, i);
+            }
+            legacySegments = serialized;
+        }
+
+        final StringBuilder builder = new StringBuilder(source.length() + 16);
+        for (int i = 0; i < segments.length; i++) {
+            builder.append(serialized[i] != null ? serialized[i] : legacy(segments[i].hole.fill(values), i));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Renders the template straight to a JSON component string
+     * Static segments are serialized once and only the holes are serialized on each render
+     *
+     * @param values The placeholder values by key
+     * @return The rendered JSON string
+     */
+    @NotNull
+    public String renderJson(@NotNull final Map<String, ?> values) {
+        String[] serialized = jsonSegments;
+        if (serialized == null) {
+            serialized = new String[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].hole == null) serialized[i] = GsonComponentSerializer.gson().serialize(segments[i].component);
+            }
+            jsonSegments = serialized;
+        }
+
+        if (segments.length == 0) return "{\"text\":\"\"}";
+
+        final StringBuilder builder = new StringBuilder(source.length() * 2 + 32).append("{\"text\":\"\",\"extra\":[");
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(serialized[i] != null
+                ? serialized[i]
+                : GsonComponentSerializer.gson().serialize(segments[i].hole.fill(values)));
+        }
+
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Serializes a single flattened segment, resetting the previous segment's formatting when needed
+     *
+     * @param component The segment
+     * @param index     The position of the segment
+     * @return The legacy string of the segment
+     */
+    @NotNull
+    private static String legacy(@NotNull final Component component, final int index) {
+        final String serialized = Legacy.SERIALIZER.serialize(component);
+        return index == 0 || component.color() != null ? serialized : "§r" + serialized;
+    }
+
+    /**
+     * Finds the first run of private use characters that doesn't appear in the text
+     *
+     * @param text  The source text
+     * @param count The number of markers needed
+     * @return The first marker character
+     */
+    private static char markerBase(@NotNull final String text, final int count) {
+        int base = MARKER_START;
+        int index = 0;
+
+        while (index < text.length()) {
+            final char character = text.charAt(index++);
+            if (character >= base && character < base + count) {
+                base = character + 1;
+                index = 0;
+            }
+        }
+
+        if (base + count - 1 > MARKER_END) {
+            throw new IllegalArgumentException("Too many placeholders in template: " + text);
+        }
+
+        return (char) base;
+    }
+
+    /**
+     * Checks if the characters between the braces form a valid placeholder
+     *
+     * @param text  The full text
+     * @param start The first character after the opening brace
+     * @param end   The closing brace
+     * @return Whether it is a placeholder
+     */
+    private static boolean isPlaceholder(@NotNull final String text, final int start, final int end) {
+        if (start == end) return false;
+
+        for (int i = start; i < end; i++) {
+            final char character = text.charAt(i);
+            if (character == ':') return i > start;
+            if (!Character.isLetterOrDigit(character) && character != '_' && character != '-' && character != '.') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Walks the parsed component tree and splits it into flat, fully styled segments
+     *
+     * @param component The current component
+     * @param parent    The style inherited from the parents
+     * @param base      The first marker character
+     * @param holes     The holes in marker order
+     * @param segments  The output segments
+     */
+    private static void flatten(
+        @NotNull final Component component,
+        @NotNull final Style parent,
+        final char base,
+        @NotNull final List<Hole> holes,
+        @NotNull final List<Segment> segments
+    ) {
+        final Style style = parent.merge(component.style());
+
+        if (component instanceof TextComponent) {
+            final String content = ((TextComponent) component).content();
+            int start = 0;
+
+            for (int i = 0; i < content.length(); i++) {
+                final char character = content.charAt(i);
+                if (character < base || character - base >= holes.size()) continue;
+
+                if (i > start) segments.add(new Segment(Component.text(content.substring(start, i), style), null));
+                segments.add(new Segment(null, holes.get(character - base).withStyle(style)));
+                start = i + 1;
+            }
+
+            if (content.length() > start) {
+                segments.add(new Segment(Component.text(content.substring(start), style), null));
+            }
+        } else {
+            segments.add(new Segment(component.children(Collections.emptyList()).style(style), null));
+        }
+
+        for (final Component child : component.children()) {
+            flatten(child, style, base, holes, segments);
+        }
+    }
+
+    /**
+     * A flat piece of the template, either a static component or a hole
+     */
+    private static final class Segment {
+        private final Component component;
+        private final Hole hole;
+
+        private Segment(@Nullable final Component component, @Nullable final Hole hole) {
+            this.component = component;
+            this.hole = hole;
+        }
+    }
+
+    /**
+     * A placeholder hole with the style it inherits from the surrounding text
+     */
+    private static final class Hole {
+        private final String key;
+        private final String format;
+        private final String raw;
+        private final Style style;
+
+        private Hole(@NotNull final String key, @Nullable final String format, @NotNull final String raw, @NotNull final Style style) {
+            this.key = key;
+            this.format = format;
+            this.raw = raw;
+            this.style = style;
+        }
+
+        @NotNull
+        private Hole withStyle(@NotNull final Style style) {
+            return new Hole(key, format, raw, style);
+        }
+
+        @NotNull
+        private Component fill(@NotNull final Map<String, ?> values) {
+            final Object value = values.get(key);
+            if (value == null) return Component.text(raw, style);
+            if (value instanceof Component) return ((Component) value).applyFallbackStyle(style);
+
+            return Component.text(format == null ? String.valueOf(value) : String.format(format, value), style);
+        }
+    }
+}